@@ -8,6 +8,9 @@ import net.minestom.server.event.item.ItemDropEvent;
 import net.minestom.server.event.item.PlayerBeginItemUseEvent;
 import net.minestom.server.event.player.*;
 import net.minestom.server.extras.MojangAuth;
+import net.unjoinable.skyblock.bootstrap.BootstrapPipeline;
+import net.unjoinable.skyblock.bootstrap.BootstrapPipeline.Stage;
+import net.unjoinable.skyblock.combat.damage.FerocityEngine;
 import net.unjoinable.skyblock.command.ICanHasStormCommand;
 import net.unjoinable.skyblock.command.ItemCommand;
 import net.unjoinable.skyblock.command.RankCommand;
@@ -22,6 +25,7 @@ import net.unjoinable.skyblock.event.listener.player.interaction.*;
 import net.unjoinable.skyblock.event.listener.player.inventory.*;
 import net.unjoinable.skyblock.item.service.ItemProcessor;
 import net.unjoinable.skyblock.level.IslandManager;
+import net.unjoinable.skyblock.level.SkyblockIsland;
 import net.unjoinable.skyblock.player.factory.PlayerFactory;
 import net.unjoinable.skyblock.registry.registries.CodecRegistry;
 import net.unjoinable.skyblock.registry.registries.ItemRegistry;
@@ -29,6 +33,9 @@ import net.unjoinable.skyblock.time.SkyblockStandardTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static net.minestom.server.MinecraftServer.*;
 
 public final class Skyblock {
@@ -55,28 +62,47 @@ public final class Skyblock {
 
     private static MinecraftServer initializeServer() {
         var server = MinecraftServer.init();
-        var registries = createRegistries();
-        var services = createServices(registries);
-        configureServer(services);
+        var pipeline = new BootstrapPipeline();
+        var registries = createRegistries(pipeline);
+        var services = createServices(pipeline, registries);
+        pipeline.await();
 
-        registerEventListeners(services.islandManager());
-        registerCommands(registries.itemRegistry(), services.itemProcessor());
+        configureServer(services.get());
+        registerEventListeners(services.get().islandManager());
+        registerCommands(registries.get().itemRegistry(), services.get().itemProcessor());
 
         return server;
     }
 
-    private static ServerRegistries createRegistries() {
-        LOGGER.info("Loading registries...");
-        return new ServerRegistries(ItemRegistry.withDefaults(), CodecRegistry.withDefaults());
+    private static Stage<ServerRegistries> createRegistries(BootstrapPipeline pipeline) {
+        var items = pipeline.stage("items", ItemRegistry::withDefaults);
+        var codecs = pipeline.stage("codecs", CodecRegistry::withDefaults);
+
+        return pipeline.stage("registries", () -> {
+            LOGGER.info("Registries loaded");
+            return new ServerRegistries(items.get(), codecs.get());
+        }, items, codecs);
     }
 
-    private static ServerServices createServices(ServerRegistries registries) {
-        LOGGER.info("Initializing server components...");
-        var itemProcessor = new ItemProcessor(registries.codecRegistry(), registries.itemRegistry());
-        var skyblockTime = new SkyblockStandardTime();
-        var islandManager = IslandManager.withDefaults();
+    private static Stage<ServerServices> createServices(BootstrapPipeline pipeline, Stage<ServerRegistries> registries) {
+        var islandManager = new IslandManager();
+        List<Stage<?>> dependencies = new ArrayList<>();
+
+        for (SkyblockIsland island : SkyblockIsland.values()) {
+            dependencies.add(pipeline.action("island:" + island.key().value(), () -> islandManager.registerIsland(island)));
+        }
 
-        return new ServerServices(itemProcessor, skyblockTime, islandManager);
+        var skyblockTime = pipeline.stage("time", SkyblockStandardTime::new);
+        var itemProcessor = pipeline.stage("item-processor", () -> new ItemProcessor(
+                registries.get().codecRegistry(),
+                registries.get().itemRegistry()), registries);
+        dependencies.add(skyblockTime);
+        dependencies.add(itemProcessor);
+
+        return pipeline.stage("services", () -> {
+            LOGGER.info("Server components initialized");
+            return new ServerServices(itemProcessor.get(), skyblockTime.get(), islandManager);
+        }, dependencies.toArray(Stage<?>[]::new));
     }
 
     private static void configureServer(ServerServices services) {
@@ -99,14 +125,14 @@ public final class Skyblock {
         LOGGER.info("Registering event listeners...");
         var eventHandler = getGlobalEventHandler();
 
-        registerPlayerEvents(eventHandler, islandManager);
+        registerPlayerEvents(eventHandler, islandManager, new FerocityEngine());
         registerInventoryEvents(eventHandler);
         registerItemEvents(eventHandler);
 
         new EntityListener(eventHandler).register();
     }
 
-    private static void registerPlayerEvents(GlobalEventHandler eventHandler, IslandManager islandManager) {
+    private static void registerPlayerEvents(GlobalEventHandler eventHandler, IslandManager islandManager, FerocityEngine ferocityEngine) {
         eventHandler
                 .addListener(PlayerSpawnEvent.class, new PlayerSpawnListener())
                 .addListener(AsyncPlayerConfigurationEvent.class, new AsyncPlayerConfigurationListener(islandManager))
@@ -122,7 +148,7 @@ public final class Skyblock {
                 .addListener(PlayerCancelDiggingEvent.class, new PlayerCancelDiggingListener())
                 .addListener(PlayerFinishDiggingEvent.class, new PlayerFinishDiggingListener())
                 .addListener(PlayerBeginItemUseEvent.class, new PlayerBeginItemUseListener())
-                .addListener(PlayerDamageEvent.class, new PlayerDamageListener());
+                .addListener(PlayerDamageEvent.class, new PlayerDamageListener(ferocityEngine));
     }
 
     private static void registerInventoryEvents(GlobalEventHandler eventHandler) {
@@ -0,0 +1,167 @@
+package net.unjoinable.skyblock.bootstrap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs server bootstrap work as a graph of named stages.
+ * <p>
+ * Each stage declares the stages it depends on and is started as soon as all of them
+ * have completed, so independent stages (item decoding, codec registration, island
+ * loading, ...) run concurrently on a small worker pool. Every stage records how long
+ * it waited for its dependencies and how long it ran, and {@link #await()} logs a
+ * summary so the stage holding up server start is easy to spot.
+ */
+public final class BootstrapPipeline {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BootstrapPipeline.class);
+
+    private final ExecutorService executor;
+    private final List<Stage<?>> stages = new ArrayList<>();
+    private final long createdAt = System.nanoTime();
+
+    /**
+     * Creates a pipeline backed by one daemon worker per available processor.
+     */
+    public BootstrapPipeline() {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+            Thread t = new Thread(r, "Bootstrap-Worker-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Declares a stage producing a value.
+     *
+     * @param name         the stage name used in timing logs
+     * @param task         the work to run once all dependencies completed
+     * @param dependencies stages that must complete before this one starts
+     * @param <T>          the type of value produced by the stage
+     * @return a handle that later stages can depend on
+     */
+    public <T> Stage<T> stage(String name, Supplier<T> task, Stage<?>... dependencies) {
+        CompletableFuture<?>[] dependencyFutures = new CompletableFuture<?>[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencyFutures[i] = dependencies[i].future;
+        }
+
+        long declaredAt = System.nanoTime();
+        Stage<T> stage = new Stage<>(name);
+        stage.future = CompletableFuture.allOf(dependencyFutures)
+                .thenApplyAsync(_ -> stage.run(declaredAt, task), executor);
+
+        stages.add(stage);
+        return stage;
+    }
+
+    /**
+     * Declares a stage that produces no value.
+     *
+     * @param name         the stage name used in timing logs
+     * @param task         the work to run once all dependencies completed
+     * @param dependencies stages that must complete before this one starts
+     * @return a handle that later stages can depend on
+     */
+    public Stage<Void> action(String name, Runnable task, Stage<?>... dependencies) {
+        return stage(name, () -> {
+            task.run();
+            return null;
+        }, dependencies);
+    }
+
+    /**
+     * Blocks until every declared stage has completed, logs per-stage timings
+     * and shuts down the worker pool.
+     *
+     * @throws IllegalStateException if any stage failed
+     */
+    public void await() {
+        try {
+            CompletableFuture.allOf(stages.stream()
+                    .map(stage -> stage.future)
+                    .toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Bootstrap stage failed", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+
+        logTimings();
+    }
+
+    /**
+     * Logs every stage ordered by completion time, followed by the total wall time.
+     */
+    private void logTimings() {
+        stages.stream()
+                .sorted(Comparator.comparingLong(stage -> stage.finishedAt))
+                .forEach(stage -> LOGGER.info("Bootstrap stage '{}' took {} ms (waited {} ms for dependencies)",
+                        stage.name, nanosToMillis(stage.runNanos), nanosToMillis(stage.waitNanos)));
+
+        LOGGER.info("Bootstrap finished {} stages in {} ms", stages.size(), nanosToMillis(System.nanoTime() - createdAt));
+    }
+
+    private static long nanosToMillis(long nanos) {
+        return nanos / 1_000_000L;
+    }
+
+    /**
+     * A single node of the bootstrap graph.
+     *
+     * @param <T> the type of value produced by the stage
+     */
+    public static final class Stage<T> {
+        private final String name;
+        private CompletableFuture<T> future;
+        private long waitNanos;
+        private long runNanos;
+        private long finishedAt;
+
+        private Stage(String name) {
+            this.name = name;
+        }
+
+        private T run(long declaredAt, Supplier<T> task) {
+            long startedAt = System.nanoTime();
+            this.waitNanos = startedAt - declaredAt;
+            LOGGER.debug("Starting bootstrap stage '{}' on thread: {}", name, Thread.currentThread().getName());
+
+            try {
+                return task.get();
+            } finally {
+                this.finishedAt = System.nanoTime();
+                this.runNanos = finishedAt - startedAt;
+            }
+        }
+
+        /**
+         * Returns the value produced by this stage, blocking until it is available.
+         * <p>
+         * Stages should only call this on their declared dependencies, which are
+         * guaranteed to have completed already.
+         *
+         * @return the stage result
+         */
+        public T get() {
+            return future.join();
+        }
+
+        /**
+         * @return the stage name
+         */
+        public String name() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package net.unjoinable.skyblock.combat.damage;
+
+import net.minestom.server.entity.Entity;
+import net.unjoinable.skyblock.entity.SkyblockEntity;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The damage of one area-of-effect attack against many targets.
+ * <p>
+ * Everything that only depends on the attacker (raw damage, type, reason and damager)
+ * is stored once, while the per-target results are kept as parallel arrays: the target
+ * at index {@code i} receives {@link #finalDamage(int) finalDamage(i)} after its defense.
+ */
+public final class AoeDamageBatch {
+    private final @Nullable Entity damager;
+    private final DamageType damageType;
+    private final DamageReason damageReason;
+    private final double rawDamage;
+    private final SkyblockEntity[] targets;
+    private final double[] finalDamage;
+
+    /**
+     * Creates a batch from already computed per-target damage.
+     *
+     * @param damager      the entity dealing the damage, null if caused by server/environment
+     * @param damageType   the type of every hit
+     * @param damageReason the reason of every hit
+     * @param rawDamage    the damage of every hit before defense
+     * @param targets      the targets
+     * @param finalDamage  the damage after defense, by target index
+     * @throws IllegalArgumentException if targets and damages differ in length
+     */
+    public AoeDamageBatch(@Nullable Entity damager,
+                          DamageType damageType,
+                          DamageReason damageReason,
+                          double rawDamage,
+                          SkyblockEntity[] targets,
+                          double[] finalDamage) {
+        if (targets.length != finalDamage.length) {
+            throw new IllegalArgumentException("Got " + targets.length + " targets but " + finalDamage.length + " damage values");
+        }
+        this.damager = damager;
+        this.damageType = damageType;
+        this.damageReason = damageReason;
+        this.rawDamage = rawDamage;
+        this.targets = targets;
+        this.finalDamage = finalDamage;
+    }
+
+    /**
+     * @return the number of targets in this batch
+     */
+    public int size() {
+        return targets.length;
+    }
+
+    /**
+     * @param index the target index
+     * @return the target at the index
+     */
+    public SkyblockEntity target(int index) {
+        return targets[index];
+    }
+
+    /**
+     * @param index the target index
+     * @return the damage the target at the index receives after its defense
+     */
+    public double finalDamage(int index) {
+        return finalDamage[index];
+    }
+
+    /**
+     * @return the damage of every hit before defense
+     */
+    public double rawDamage() {
+        return rawDamage;
+    }
+
+    /**
+     * @return the sum of the final damage over all targets
+     */
+    public double totalDamage() {
+        double total = 0;
+        for (double damage : finalDamage) {
+            total += damage;
+        }
+        return total;
+    }
+
+    /**
+     * Damages every target with its precomputed final damage.
+     * <p>
+     * The attacker-side terms are built into one {@link SkyblockDamage} for the first
+     * target; {@link SkyblockEntity#damage(SkyblockDamage, double)} rebinds it to each
+     * other target, so every target buffers a record naming itself.
+     */
+    public void apply() {
+        if (targets.length == 0) return;
+
+        SkyblockDamage damage = new SkyblockDamage(rawDamage, damageType, damageReason, false, damager, targets[0]);
+        for (int i = 0; i < targets.length; i++) {
+            targets[i].damage(damage, finalDamage[i]);
+        }
+    }
+}
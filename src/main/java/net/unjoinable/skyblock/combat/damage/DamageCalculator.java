@@ -2,10 +2,12 @@ package net.unjoinable.skyblock.combat.damage;
 
 import net.minestom.server.entity.Entity;
 import net.unjoinable.skyblock.combat.statistic.StatProfile;
+import net.unjoinable.skyblock.entity.SkyblockEntity;
 import net.unjoinable.skyblock.item.ability.traits.MagicAbility;
 import net.unjoinable.skyblock.player.SkyblockPlayer;
 import net.unjoinable.skyblock.player.systems.PlayerStatSystem;
 
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static net.unjoinable.skyblock.combat.statistic.Statistic.*;
@@ -85,17 +87,9 @@ public class DamageCalculator {
      * @return SkyblockDamage object containing damage details
      */
     public SkyblockDamage calcAbilityDamage(Entity target, MagicAbility ability) {
-        StatProfile stats = statSystem.getFinalStats();
-        double baseAbilityDamage = ability.baseAbilityDamage();
-        double intelligence = stats.get(INTELLIGENCE);
-        double abilityScaling = ability.abilityScalling();
-        double abilityDamage = stats.get(ABILITY_DAMAGE);
-        double multiplier = 1 + (abilityDamage / 100);
-
-        double rawDamage = baseAbilityDamage * (1 + (intelligence / 100) * abilityScaling) * multiplier;
         return SkyblockDamage
                 .builder()
-                .rawDamage(rawDamage)
+                .rawDamage(calcAbilityRawDamage(ability))
                 .damager(player)
                 .target(target)
                 .damageReason(DamageReason.PLAYER)
@@ -103,6 +97,44 @@ public class DamageCalculator {
                 .build();
     }
 
+    /**
+     * Calculates magic ability damage against many targets at once.
+     * The player's stats are read once, then each target's defense is applied in a single pass.
+     *
+     * @param targets the entities being attacked
+     * @param ability the magic ability being used
+     * @return the per-target damage, ready to be applied
+     */
+    public AoeDamageBatch calcAbilityDamage(List<SkyblockEntity> targets, MagicAbility ability) {
+        double rawDamage = calcAbilityRawDamage(ability);
+        SkyblockEntity[] targetArray = targets.toArray(new SkyblockEntity[0]);
+        double[] finalDamage = new double[targetArray.length];
+
+        for (int i = 0; i < targetArray.length; i++) {
+            finalDamage[i] = targetArray[i].applyDefenseReduction(rawDamage, DamageType.MAGIC_DAMAGE);
+        }
+
+        return new AoeDamageBatch(player, DamageType.MAGIC_DAMAGE, DamageReason.PLAYER, rawDamage, targetArray, finalDamage);
+    }
+
+    /**
+     * Calculates the raw damage of a magic ability from the player's current stats.
+     * Applies base ability damage, intelligence scaling, and ability damage multipliers.
+     *
+     * @param ability the magic ability being used
+     * @return the damage before the target's defense
+     */
+    private double calcAbilityRawDamage(MagicAbility ability) {
+        StatProfile stats = statSystem.getFinalStats();
+        double baseAbilityDamage = ability.baseAbilityDamage();
+        double intelligence = stats.get(INTELLIGENCE);
+        double abilityScaling = ability.abilityScalling();
+        double abilityDamage = stats.get(ABILITY_DAMAGE);
+        double multiplier = 1 + (abilityDamage / 100);
+
+        return baseAbilityDamage * (1 + (intelligence / 100) * abilityScaling) * multiplier;
+    }
+
     /**
      * Calculates the final applicable damage after defense reduction.
      * Applies defense formula: damage * (1 - defense / (defense + 100))
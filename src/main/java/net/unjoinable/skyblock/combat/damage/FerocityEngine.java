@@ -0,0 +1,262 @@
+package net.unjoinable.skyblock.combat.damage;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.timer.TaskSchedule;
+import net.unjoinable.skyblock.entity.SkyblockEntity;
+import net.unjoinable.skyblock.player.SkyblockPlayer;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schedules and applies ferocity hits.
+ * <p>
+ * Extra hits granted by ferocity are not applied immediately but queued per target and
+ * drained by a task that runs every tick, at most {@link #maxHitsPerTick()} hits per
+ * target and tick. Depending on the {@link VisualFidelity}, the hits drained for a target
+ * within one tick are merged into a single damage application, so the target's health,
+ * name and damage packet are only updated once. Ferocity sounds are played at most once
+ * per attacker and tick.
+ * <p>
+ * Both settings can be configured with {@code -Dskyblock.ferocityHitsPerTick} and
+ * {@code -Dskyblock.ferocityFidelity}.
+ */
+public final class FerocityEngine {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FerocityEngine.class);
+    private static final int DEFAULT_HITS_PER_TICK = Integer.getInteger("skyblock.ferocityHitsPerTick", 4);
+    private static final VisualFidelity DEFAULT_FIDELITY =
+            VisualFidelity.parse(System.getProperty("skyblock.ferocityFidelity"), VisualFidelity.MERGED);
+
+    private final Map<SkyblockEntity, HitQueue> queues = new ConcurrentHashMap<>();
+    private final int maxHitsPerTick;
+    private final VisualFidelity fidelity;
+
+    /**
+     * Creates an engine using the configured hits per tick and visual fidelity.
+     */
+    public FerocityEngine() {
+        this(DEFAULT_HITS_PER_TICK, DEFAULT_FIDELITY);
+    }
+
+    /**
+     * Creates an engine and starts draining its queues every tick.
+     *
+     * @param maxHitsPerTick the maximum number of ferocity hits applied to one target per tick
+     * @param fidelity       how the hits of one tick are presented
+     * @throws IllegalArgumentException if maxHitsPerTick is not positive
+     */
+    public FerocityEngine(int maxHitsPerTick, VisualFidelity fidelity) {
+        if (maxHitsPerTick <= 0) {
+            throw new IllegalArgumentException("Max hits per tick must be positive: " + maxHitsPerTick);
+        }
+        this.maxHitsPerTick = maxHitsPerTick;
+        this.fidelity = fidelity;
+
+        MinecraftServer.getSchedulerManager().scheduleTask(this::tick,
+                TaskSchedule.nextTick(), TaskSchedule.nextTick());
+    }
+
+    /**
+     * Queues ferocity hits against a target.
+     *
+     * @param attacker the player the hits originate from
+     * @param target   the entity to hit
+     * @param damage   the damage of every single hit
+     * @param hits     the number of hits to queue
+     */
+    public void schedule(SkyblockPlayer attacker, SkyblockEntity target, SkyblockDamage damage, int hits) {
+        if (hits <= 0) return;
+
+        PendingHit hit = new PendingHit(attacker, damage.withReason(DamageReason.FEROCITY));
+        while (true) {
+            HitQueue queue = queues.computeIfAbsent(target, _ -> new HitQueue());
+            if (queue.add(hit, hits)) return;
+            queues.remove(target, queue); // Drained and closed by the tick in the meantime
+        }
+    }
+
+    /**
+     * @return the maximum number of ferocity hits applied to one target per tick
+     */
+    public int maxHitsPerTick() {
+        return maxHitsPerTick;
+    }
+
+    /**
+     * @return how the ferocity hits of one tick are presented
+     */
+    public VisualFidelity fidelity() {
+        return fidelity;
+    }
+
+    /**
+     * Drains up to {@link #maxHitsPerTick} hits from every target queue and applies them.
+     */
+    private void tick() {
+        if (queues.isEmpty()) return;
+
+        Set<SkyblockPlayer> attackers = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<PendingHit> drained = new ArrayList<>(maxHitsPerTick);
+
+        Iterator<Map.Entry<SkyblockEntity, HitQueue>> iterator = queues.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<SkyblockEntity, HitQueue> entry = iterator.next();
+            SkyblockEntity target = entry.getKey();
+
+            if (target.isDead() || target.isRemoved()) {
+                iterator.remove();
+                continue;
+            }
+
+            drained.clear();
+            HitQueue queue = entry.getValue();
+            if (queue.drainTo(drained, maxHitsPerTick)) {
+                queues.remove(target, queue); // Re-created on the next schedule
+            }
+
+            apply(target, drained, attackers);
+        }
+
+        if (fidelity != VisualFidelity.MINIMAL) {
+            for (SkyblockPlayer attacker : attackers) {
+                attacker.getCombatSystem().playFerocitySound();
+            }
+        }
+    }
+
+    /**
+     * Applies the hits drained for one target, merging consecutive hits of the same
+     * kind unless every hit should be shown on its own.
+     */
+    private void apply(SkyblockEntity target, List<PendingHit> hits, Set<SkyblockPlayer> attackers) {
+        @Nullable SkyblockDamage merged = null;
+
+        for (PendingHit hit : hits) {
+            attackers.add(hit.attacker());
+
+            if (fidelity == VisualFidelity.FULL) {
+                target.damage(hit.damage());
+                continue;
+            }
+
+            if (merged != null && !canMerge(merged, hit.damage())) {
+                target.damage(merged);
+                merged = null;
+            }
+            merged = merged == null ? hit.damage() : merged.withRawDamage(merged.rawDamage() + hit.damage().rawDamage());
+        }
+
+        if (merged != null) {
+            target.damage(merged);
+        }
+    }
+
+    /**
+     * Hits can be merged if defense reduces them the same way and they display the same.
+     */
+    private static boolean canMerge(SkyblockDamage first, SkyblockDamage second) {
+        return first.damageType() == second.damageType()
+                && first.isCritical() == second.isCritical()
+                && first.damager() == second.damager();
+    }
+
+    /**
+     * Controls how the ferocity hits applied within one tick are presented.
+     */
+    public enum VisualFidelity {
+        /**
+         * Every hit is applied on its own with its own damage indicator and packet.
+         */
+        FULL,
+        /**
+         * Hits of one tick are merged into one damage application per target.
+         */
+        MERGED,
+        /**
+         * Hits are merged like {@link #MERGED} and no ferocity sounds are played.
+         */
+        MINIMAL;
+
+        /**
+         * Parses a fidelity name case-insensitively, falling back to a default with a
+         * warning instead of failing when the name is unknown.
+         *
+         * @param name     the configured name, or null if not configured
+         * @param fallback the fidelity to use if the name is missing or unknown
+         * @return the parsed fidelity
+         */
+        static VisualFidelity parse(@Nullable String name, VisualFidelity fallback) {
+            if (name == null || name.isBlank()) {
+                return fallback;
+            }
+
+            for (VisualFidelity fidelity : values()) {
+                if (fidelity.name().equalsIgnoreCase(name.strip())) {
+                    return fidelity;
+                }
+            }
+            LOGGER.warn("Unknown ferocity fidelity '{}', expected one of {}; using {}",
+                    name, Arrays.toString(values()), fallback);
+            return fallback;
+        }
+    }
+
+    private record PendingHit(SkyblockPlayer attacker, SkyblockDamage damage) {}
+
+    /**
+     * The pending hits of one target, stored as runs of identical hits.
+     */
+    private static final class HitQueue {
+        private final ArrayDeque<PendingHit> hits = new ArrayDeque<>();
+        private final ArrayDeque<Integer> counts = new ArrayDeque<>();
+        private boolean closed;
+
+        /**
+         * Appends a run of identical hits.
+         *
+         * @return false if the queue was closed and must be replaced
+         */
+        synchronized boolean add(PendingHit hit, int count) {
+            if (closed) return false;
+
+            hits.addLast(hit);
+            counts.addLast(count);
+            return true;
+        }
+
+        /**
+         * Moves up to {@code max} hits into the list, closing the queue once it runs empty.
+         *
+         * @return true if the queue is empty and closed afterwards
+         */
+        synchronized boolean drainTo(List<PendingHit> target, int max) {
+            while (max > 0 && !hits.isEmpty()) {
+                int remaining = counts.pollFirst();
+                int taken = Math.min(remaining, max);
+                for (int i = 0; i < taken; i++) {
+                    target.add(hits.peekFirst());
+                }
+                max -= taken;
+
+                if (taken == remaining) {
+                    hits.pollFirst();
+                } else {
+                    counts.addFirst(remaining - taken);
+                }
+            }
+            closed = hits.isEmpty();
+            return closed;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package net.unjoinable.skyblock.combat.statistic;
+
+/**
+ * Receives the new value of a {@link Statistic} whenever a recalculation changed it.
+ */
+@FunctionalInterface
+public interface StatChangeListener {
+
+    /**
+     * Called after the value of a statistic changed.
+     *
+     * @param stat  the statistic that changed
+     * @param value the new value of the statistic
+     */
+    void onStatChange(Statistic stat, double value);
+}
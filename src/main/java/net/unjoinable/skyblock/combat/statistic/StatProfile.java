@@ -29,6 +29,15 @@ import java.util.Map;
 public class StatProfile {
     private static final Statistic[] STATS = Statistic.values();
     private static final int STAT_COUNT = STATS.length;
+    private static final double[] CAPS = new double[STAT_COUNT];
+    // Above this many dirty stats a dense pass over all arrays beats walking the BitSet
+    private static final int DENSE_THRESHOLD = STAT_COUNT / 4;
+
+    static {
+        for (Statistic stat : STATS) {
+            CAPS[stat.ordinal()] = stat.isCapped() ? stat.capValue() : Double.POSITIVE_INFINITY;
+        }
+    }
 
     // Storage arrays with direct index access
     private final double[] base = new double[STAT_COUNT];
@@ -40,6 +49,9 @@ public class StatProfile {
     // BitSet dirty flag tracking
     private final BitSet dirtyFlags = new BitSet(STAT_COUNT);
 
+    // Set once by freeze(), after which the profile is read-only and safe to share
+    private boolean frozen;
+
     /**
      * Constructs a new StatProfile with optimized initialization.
      * <p>
@@ -83,6 +95,7 @@ public class StatProfile {
      * @param amount Value to apply (use negative values for subtraction)
      */
     public void addStat(Statistic stat, StatValueType type, double amount) {
+        checkMutable();
         final int id = stat.ordinal();
 
         switch (type) {
@@ -102,6 +115,7 @@ public class StatProfile {
      * @param value  Exact value to set
      */
     public void setStat(Statistic stat, StatValueType type, double value) {
+        checkMutable();
         final int id = stat.ordinal();
 
         switch (type) {
@@ -120,6 +134,7 @@ public class StatProfile {
      * @implNote Efficiently combines dirty flags using BitSet OR
      */
     public void combineWith(StatProfile other) {
+        checkMutable();
         for (int i = 0; i < STAT_COUNT; i++) {
             base[i] += other.base[i];
             additive[i] += other.additive[i];
@@ -131,6 +146,78 @@ public class StatProfile {
         dirtyFlags.or(other.dirtyFlags);
     }
 
+    /**
+     * Replaces one previously combined profile with another, as if this profile had been
+     * rebuilt from scratch with {@code next} combined in place of {@code previous}.
+     * <p>
+     * Base, additive and bonus contributions are subtracted and re-added, multiplicative
+     * contributions are divided out and multiplied back in. Only statistics whose
+     * contribution actually changed are marked dirty.
+     * <p>
+     * A multiplicative factor of zero cannot be divided out. In that case nothing is
+     * modified and {@code false} is returned, so the caller has to rebuild the profile.
+     *
+     * @param previous the profile that was combined into this one (non-null)
+     * @param next     the profile to combine instead (non-null)
+     * @return true if the contribution was replaced, false if the profile was left untouched
+     */
+    public boolean replaceContribution(StatProfile previous, StatProfile next) {
+        checkMutable();
+        for (int i = 0; i < STAT_COUNT; i++) {
+            if (previous.multiplicative[i] == 0.0 && next.multiplicative[i] != 0.0) {
+                return false;
+            }
+        }
+
+        for (int i = 0; i < STAT_COUNT; i++) {
+            double baseDelta = next.base[i] - previous.base[i];
+            double additiveDelta = next.additive[i] - previous.additive[i];
+            double bonusDelta = next.bonus[i] - previous.bonus[i];
+            double prevFactor = previous.multiplicative[i];
+            double nextFactor = next.multiplicative[i];
+
+            if (baseDelta == 0.0 && additiveDelta == 0.0 && bonusDelta == 0.0 && prevFactor == nextFactor) {
+                continue;
+            }
+
+            base[i] += baseDelta;
+            additive[i] += additiveDelta;
+            bonus[i] += bonusDelta;
+            if (prevFactor != nextFactor) {
+                multiplicative[i] = multiplicative[i] / prevFactor * nextFactor;
+            }
+            markDirty(i);
+        }
+        return true;
+    }
+
+    /**
+     * Overwrites all modifiers with those of another profile.
+     * <p>
+     * Unlike {@link #reset()} followed by {@link #combineWith(StatProfile)}, previously
+     * calculated values are kept and only statistics whose modifiers differ are marked
+     * dirty, so {@link #recalculateAll(BitSet)} still reports exactly what changed.
+     *
+     * @param other Profile to copy the modifiers from (non-null)
+     */
+    public void setModifiersFrom(StatProfile other) {
+        checkMutable();
+        for (int i = 0; i < STAT_COUNT; i++) {
+            if (base[i] == other.base[i]
+                    && additive[i] == other.additive[i]
+                    && multiplicative[i] == other.multiplicative[i]
+                    && bonus[i] == other.bonus[i]) {
+                continue;
+            }
+
+            base[i] = other.base[i];
+            additive[i] = other.additive[i];
+            multiplicative[i] = other.multiplicative[i];
+            bonus[i] = other.bonus[i];
+            markDirty(i);
+        }
+    }
+
     /**
      * Creates a deep copy of the profile using optimized array operations.
      *
@@ -163,6 +250,7 @@ public class StatProfile {
      * @return This profile instance for method chaining
      */
     public StatProfile setToDefaults() {
+        checkMutable();
         for (int i = 0; i < STAT_COUNT; i++) {
             base[i] = STATS[i].baseValue();
             additive[i] = 0.0;
@@ -187,28 +275,116 @@ public class StatProfile {
      * Recalculates a statistic value using precomputed metadata.
      *
      * @param id Statistic ID to recalculate
+     * @return True if the recalculated value differs from the previous one
      * @implNote Uses precomputed cap values to avoid virtual calls
      */
-    private void recalculate(int id) {
+    private boolean recalculate(int id) {
         final double additiveFactor = 1.0 + additive[id];
-        cached[id] = (base[id] * additiveFactor) * multiplicative[id] + bonus[id];
+        final double previous = cached[id];
+        cached[id] = Math.min((base[id] * additiveFactor) * multiplicative[id] + bonus[id], CAPS[id]);
         clearDirty(id);
+        return Double.compare(previous, cached[id]) != 0;
     }
 
     /**
      * Bulk recalculates all dirty statistics in one pass.
      * Useful for performance critical sections where many stats may be dirty.
+     * <p>
+     * When many statistics are dirty, every statistic is recalculated in a single
+     * branch-free loop over the modifier arrays, which the JIT can vectorize.
      */
     public void recalculateAll() {
         if (dirtyFlags.isEmpty()) {
             return;
         }
 
+        if (dirtyFlags.cardinality() > DENSE_THRESHOLD) {
+            for (int i = 0; i < STAT_COUNT; i++) {
+                cached[i] = Math.min((base[i] * (1.0 + additive[i])) * multiplicative[i] + bonus[i], CAPS[i]);
+            }
+            dirtyFlags.clear();
+            return;
+        }
+
         for (int id = dirtyFlags.nextSetBit(0); id >= 0; id = dirtyFlags.nextSetBit(id + 1)) {
             recalculate(id);
         }
     }
 
+    /**
+     * Bulk recalculates all dirty statistics and reports which of them changed value.
+     * <p>
+     * The bit of a statistic's ordinal is set in {@code changed} if its recalculated value
+     * differs from the value calculated before. Bits of unchanged statistics are left as is.
+     *
+     * @param changed receives the ordinals of statistics whose value changed (non-null)
+     */
+    public void recalculateAll(BitSet changed) {
+        if (dirtyFlags.isEmpty()) {
+            return;
+        }
+
+        if (dirtyFlags.cardinality() > DENSE_THRESHOLD) {
+            for (int i = 0; i < STAT_COUNT; i++) {
+                double value = Math.min((base[i] * (1.0 + additive[i])) * multiplicative[i] + bonus[i], CAPS[i]);
+                if (Double.compare(value, cached[i]) != 0) {
+                    changed.set(i);
+                }
+                cached[i] = value;
+            }
+            dirtyFlags.clear();
+            return;
+        }
+
+        for (int id = dirtyFlags.nextSetBit(0); id >= 0; id = dirtyFlags.nextSetBit(id + 1)) {
+            if (recalculate(id)) {
+                changed.set(id);
+            }
+        }
+    }
+
+    /**
+     * Recalculates every statistic and makes this profile read-only.
+     * <p>
+     * A frozen profile has no dirty statistics left, so {@link #get(Statistic)} never
+     * writes and the profile can be shared between threads. Every mutating method
+     * throws {@link UnsupportedOperationException} afterwards; use {@link #copy()} to
+     * obtain a mutable profile again.
+     *
+     * @return This profile instance for method chaining
+     */
+    public StatProfile freeze() {
+        recalculateAll();
+        this.frozen = true;
+        return this;
+    }
+
+    /**
+     * Returns whether this profile has been made read-only by {@link #freeze()}.
+     *
+     * @return True if the profile is frozen
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Estimates the retained heap size of a single profile, including its arrays and BitSet.
+     *
+     * @return The approximate size of a profile in bytes
+     */
+    public static long estimatedSizeBytes() {
+        long arrays = 5L * (16 + 8L * STAT_COUNT);
+        long bitSet = 24 + 16 + 8L * ((STAT_COUNT + 63) / 64);
+        return 24 + arrays + bitSet;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("StatProfile is frozen");
+        }
+    }
+
     /* BitSet Dirty Flag Management */
 
     /**
@@ -274,6 +450,7 @@ public class StatProfile {
      * @return This profile instance for method chaining
      */
     public StatProfile reset() {
+        checkMutable();
         Arrays.fill(base, 0.0);
         Arrays.fill(additive, 0.0);
         Arrays.fill(multiplicative, 1.0);
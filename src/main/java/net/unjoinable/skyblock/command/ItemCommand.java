@@ -4,13 +4,22 @@ import net.kyori.adventure.key.Key;
 import net.minestom.server.command.builder.arguments.Argument;
 import net.minestom.server.command.builder.arguments.ArgumentType;
 import net.minestom.server.command.builder.suggestion.SuggestionEntry;
+import net.minestom.server.item.ItemStack;
+import net.unjoinable.skyblock.item.SkyblockItem;
 import net.unjoinable.skyblock.item.service.ItemProcessor;
 import net.unjoinable.skyblock.player.SkyblockPlayer;
 import net.unjoinable.skyblock.player.rank.PlayerRank;
 import net.unjoinable.skyblock.registry.registries.ItemRegistry;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Admin command for spawning items from the item registry.
+ * <p>
+ * {@code /item <ids...>} gives one or more items, rendered in a single batch.
+ * {@code /item all} renders every registered item in parallel and gives as many as fit.
  * Requires Hypixel Staff Rank
  */
 public class ItemCommand extends SkyblockCommand {
@@ -22,14 +31,31 @@ public class ItemCommand extends SkyblockCommand {
      */
     public ItemCommand(ItemRegistry registry, ItemProcessor itemProcessor) {
         super("item");
-        Argument<String> itemArg = ArgumentType.String("item").setSuggestionCallback((_, _, suggestion) -> registry.values().forEach(item -> suggestion.addEntry(new SuggestionEntry(item.metadata().key().asString()))));
+        Argument<String[]> itemsArg = ArgumentType.StringArray("items").setSuggestionCallback((_, _, suggestion) -> registry.keys().forEach(key -> suggestion.addEntry(new SuggestionEntry(key.asString()))));
 
         addSyntax((sender, context) -> {
             SkyblockPlayer player = ((SkyblockPlayer) sender);
-            String idAsStr = context.get(itemArg);
-            Key key = Key.key(idAsStr);
-            registry.get(key).ifPresent(item -> player.getInventory().addItemStack(itemProcessor.toItemStack(item)));
-        }, itemArg);
+            List<SkyblockItem> items = new ArrayList<>();
+            for (String idAsStr : context.get(itemsArg)) {
+                registry.get(Key.key(idAsStr)).ifPresent(items::add);
+            }
+            giveAll(player, itemProcessor.toItemStacks(items));
+        }, itemsArg);
+
+        addSyntax((sender, _) -> {
+            SkyblockPlayer player = ((SkyblockPlayer) sender);
+            List<SkyblockItem> items = new ArrayList<>(registry.values());
+            giveAll(player, itemProcessor.toItemStacks(items, ForkJoinPool.commonPool()));
+        }, ArgumentType.Literal("all"));
+    }
+
+    /**
+     * Adds the stacks to the player's inventory until it is full.
+     */
+    private static void giveAll(SkyblockPlayer player, List<ItemStack> stacks) {
+        for (ItemStack stack : stacks) {
+            if (!player.getInventory().addItemStack(stack)) break;
+        }
     }
 
     /**
@@ -0,0 +1,290 @@
+package net.unjoinable.skyblock.entity;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.TextColor;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.Metadata;
+import net.minestom.server.entity.MetadataHolder;
+import net.minestom.server.entity.Player;
+import net.minestom.server.entity.metadata.display.AbstractDisplayMeta;
+import net.minestom.server.entity.metadata.display.TextDisplayMeta;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.play.DestroyEntitiesPacket;
+import net.minestom.server.network.packet.server.play.EntityMetaDataPacket;
+import net.minestom.server.network.packet.server.play.SpawnEntityPacket;
+import net.minestom.server.timer.TaskSchedule;
+import net.unjoinable.skyblock.utils.MiniString;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static net.kyori.adventure.text.format.NamedTextColor.*;
+
+/**
+ * Shows floating damage numbers using client-side text displays.
+ * <p>
+ * Indicators are never real entities: they only exist as spawn, metadata and destroy
+ * packets sent to the viewers of the damaged entity, using entity ids taken from a
+ * reusable pool. Expiry is driven by a single timing wheel advanced once per tick
+ * instead of one scheduled task per indicator.
+ * <p>
+ * Every viewer sees at most {@code -Dskyblock.indicatorBudget} indicators at once.
+ * Viewers over budget skip new indicators, and once every viewer of an entity is over
+ * budget, further hits within the same tick are added onto that entity's latest
+ * indicator instead of spawning new ones.
+ */
+public final class DamageIndicatorManager {
+    private static final TextColor[] COLORS = {WHITE, WHITE, YELLOW, GOLD, RED, RED};
+    private static final MiniString.Template NORMAL_TEXT = MiniString.template("<gray>{0}");
+    private static final MiniString.Template CRITICAL_TEXT = MiniString.template("<white>✧</white>{0}<white>✧");
+    private static final NumberFormat NUMBER_FORMAT = NumberFormat.getNumberInstance(Locale.US);
+
+    private static final int LIFETIME_TICKS = 20; // 1 second
+    private static final int WHEEL_SIZE = 32; // Power of two larger than the lifetime
+    private static final int VIEWER_BUDGET = Integer.getInteger("skyblock.indicatorBudget", 16);
+
+    // Display settings shared by every indicator, and the index its text is written to
+    private static final Map<Integer, Metadata.Entry<?>> BASE_METADATA;
+    private static final int TEXT_INDEX;
+
+    static {
+        MetadataHolder holder = new MetadataHolder(null);
+        TextDisplayMeta meta = new TextDisplayMeta(null, holder);
+        meta.setHasNoGravity(true);
+        meta.setSeeThrough(false);
+        meta.setUseDefaultBackground(true);
+        meta.setBillboardRenderConstraints(AbstractDisplayMeta.BillboardConstraints.CENTER);
+        BASE_METADATA = Map.copyOf(holder.getEntries());
+
+        meta.setText(Component.text("0"));
+        TEXT_INDEX = holder.getEntries().keySet().stream()
+                .filter(index -> !BASE_METADATA.containsKey(index))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private final IntArrayFIFOQueue freeIds = new IntArrayFIFOQueue();
+    @SuppressWarnings("unchecked")
+    private final List<Indicator>[] wheel = new List[WHEEL_SIZE];
+    private final Object2IntOpenHashMap<Player> liveIndicators = new Object2IntOpenHashMap<>();
+    private final Map<Entity, Indicator> latestThisTick = new IdentityHashMap<>();
+    private long currentTick;
+
+    private DamageIndicatorManager() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        MinecraftServer.getSchedulerManager().scheduleTask(this::tick,
+                TaskSchedule.nextTick(), TaskSchedule.nextTick());
+    }
+
+    /**
+     * Returns the shared manager, starting its expiry task on first use.
+     *
+     * @return the damage indicator manager
+     */
+    public static DamageIndicatorManager get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Shows a damage number above the entity to all of its viewers.
+     *
+     * @param target     the damaged entity
+     * @param damage     the damage amount to display
+     * @param isCritical whether the damage was a critical hit
+     */
+    public synchronized void show(Entity target, double damage, boolean isCritical) {
+        List<Player> recipients = new ArrayList<>();
+        for (Player viewer : target.getViewers()) {
+            if (liveIndicators.getInt(viewer) < VIEWER_BUDGET) {
+                recipients.add(viewer);
+            }
+        }
+
+        if (recipients.isEmpty()) {
+            Indicator latest = latestThisTick.get(target);
+            if (latest != null) {
+                latest.merge(damage, isCritical);
+                sendToAll(latest.viewers, new EntityMetaDataPacket(latest.entityId, textMetadata(latest.text())));
+            }
+            return;
+        }
+
+        Indicator indicator = new Indicator(acquireId(), recipients, damage, isCritical);
+        Pos position = randomizePosition(target.getPosition().add(0d, 1.2d, 0d));
+        sendToAll(recipients, new SpawnEntityPacket(indicator.entityId, randomUuid(),
+                EntityType.TEXT_DISPLAY, position, 0f, 0, Vec.ZERO));
+        sendToAll(recipients, new EntityMetaDataPacket(indicator.entityId, metadata(indicator.text())));
+
+        for (Player recipient : recipients) {
+            liveIndicators.addTo(recipient, 1);
+        }
+        wheel[(int) ((currentTick + LIFETIME_TICKS) & (WHEEL_SIZE - 1))].add(indicator);
+        latestThisTick.put(target, indicator);
+    }
+
+    /**
+     * Advances the timing wheel and destroys every indicator whose lifetime ended,
+     * sending one destroy packet per viewer.
+     */
+    private synchronized void tick() {
+        currentTick++;
+        latestThisTick.clear();
+
+        List<Indicator> expired = wheel[(int) (currentTick & (WHEEL_SIZE - 1))];
+        if (expired.isEmpty()) return;
+
+        Map<Player, IntList> destroyed = new HashMap<>();
+        for (Indicator indicator : expired) {
+            for (Player viewer : indicator.viewers) {
+                destroyed.computeIfAbsent(viewer, _ -> new IntArrayList()).add(indicator.entityId);
+                if (liveIndicators.addTo(viewer, -1) <= 1) {
+                    liveIndicators.removeInt(viewer);
+                }
+            }
+            freeIds.enqueue(indicator.entityId);
+        }
+        expired.clear();
+
+        destroyed.forEach((viewer, ids) -> {
+            if (viewer.isOnline()) {
+                viewer.sendPacket(new DestroyEntitiesPacket(ids));
+            }
+        });
+    }
+
+    private int acquireId() {
+        return freeIds.isEmpty() ? Entity.generateId() : freeIds.dequeueInt();
+    }
+
+    private static void sendToAll(List<Player> players, SendablePacket packet) {
+        for (Player player : players) {
+            player.sendPacket(packet);
+        }
+    }
+
+    /**
+     * Builds the full metadata of a new text display showing the given text.
+     */
+    private static Map<Integer, Metadata.Entry<?>> metadata(Component text) {
+        Map<Integer, Metadata.Entry<?>> entries = new HashMap<>(BASE_METADATA);
+        entries.put(TEXT_INDEX, Metadata.Component(text));
+        return entries;
+    }
+
+    /**
+     * Builds a metadata update that only replaces the text of an existing display.
+     */
+    private static Map<Integer, Metadata.Entry<?>> textMetadata(Component text) {
+        return Map.of(TEXT_INDEX, Metadata.Component(text));
+    }
+
+    /**
+     * Indicators are client-side only, so their UUIDs need to be unique, not unguessable.
+     */
+    private static UUID randomUuid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    /**
+     * Formats the damage value into a visually appealing component.
+     *
+     * @param damage     the damage amount
+     * @param isCritical whether the damage was a critical hit
+     * @return The formatted text component
+     */
+    private static Component formatDamageText(double damage, boolean isCritical) {
+        String formattedNumber = NUMBER_FORMAT.format(Math.round(damage));
+
+        if (!isCritical) {
+            return NORMAL_TEXT.fill(formattedNumber);
+        }
+        return CRITICAL_TEXT.fill(applyRainbowEffect(formattedNumber));
+    }
+
+    /**
+     * Applies rainbow coloring to each character of the text.
+     *
+     * @param text The text to colorize
+     * @return A component with rainbow-colored characters
+     */
+    private static Component applyRainbowEffect(String text) {
+        TextComponent.Builder colorized = Component.text();
+        int colorIndex = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c == ',') {
+                colorized.append(Component.text(c, WHITE));
+                continue;
+            }
+
+            if (colorIndex >= COLORS.length) {
+                colorIndex = 0;
+            }
+            colorized.append(Component.text(c, COLORS[colorIndex++]));
+        }
+
+        return colorized.build();
+    }
+
+    /**
+     * Creates a slightly randomized position based on the input position.
+     *
+     * @param pos The base position
+     * @return A new position with random offsets on X and Z axes
+     */
+    private static Pos randomizePosition(Pos pos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return pos.add(random.nextDouble(-1, 1), 0, random.nextDouble(-1, 1));
+    }
+
+    /**
+     * A live indicator and the viewers it was sent to.
+     */
+    private static final class Indicator {
+        private final int entityId;
+        private final List<Player> viewers;
+        private double damage;
+        private boolean isCritical;
+
+        private Indicator(int entityId, List<Player> viewers, double damage, boolean isCritical) {
+            this.entityId = entityId;
+            this.viewers = viewers;
+            this.damage = damage;
+            this.isCritical = isCritical;
+        }
+
+        private void merge(double damage, boolean isCritical) {
+            this.damage += damage;
+            this.isCritical |= isCritical;
+        }
+
+        private Component text() {
+            return formatDamageText(damage, isCritical);
+        }
+    }
+
+    private static final class Holder {
+        private static final DamageIndicatorManager INSTANCE = new DamageIndicatorManager();
+    }
+}
@@ -2,6 +2,7 @@ package net.unjoinable.skyblock.entity;
 
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.Component;
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.component.DataComponents;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.*;
@@ -20,17 +21,20 @@ import net.unjoinable.skyblock.combat.damage.SkyblockDamage;
 import net.unjoinable.skyblock.combat.statistic.StatProfile;
 import net.unjoinable.skyblock.combat.statistic.Statistic;
 import net.unjoinable.skyblock.utils.MiniString;
+import org.jspecify.annotations.Nullable;
 
 import java.time.Duration;
 import java.util.List;
 
-import static net.kyori.adventure.text.Component.text;
-import static net.kyori.adventure.text.Component.textOfChildren;
-import static net.kyori.adventure.text.format.NamedTextColor.*;
 import static net.unjoinable.skyblock.utils.NumberUtils.formatClean;
 
 /**
  * Abstract base class for all Skyblock entities.
+ * <p>
+ * Damage is applied to the health right away, so kills happen on the exact hit that
+ * depletes it. The side effects viewers see, i.e. the name refresh, the damage event
+ * packet and the hurt sound, are buffered and flushed once at the end of the tick,
+ * no matter how many hits the entity took during it.
  */
 public abstract class SkyblockEntity extends EntityCreature {
     private final int level;
@@ -40,15 +44,22 @@ public abstract class SkyblockEntity extends EntityCreature {
     private double maxHealth;
     private double currentHealth;
 
+    // Damage buffered until the end of the tick
+    private @Nullable SkyblockDamage pendingDamage;
+    private boolean flushScheduled;
+
+    // Grid this entity is indexed in and its bucket there, maintained by SkyblockEntityGrid
+    volatile @Nullable SkyblockEntityGrid grid;
+    long gridChunk = SkyblockEntityGrid.NOT_INDEXED;
+
     // Constants
     private static final int REMOVAL_ANIMATION_DELAY = 1000;
     private static final double BASE_DAMAGE_MODIFIER = 5.0;
     private static final double SPEED_CONVERSION_FACTOR = 1 / 1000.0;
     
     // Naming Constants
-    private static final Component OPENING_BRACKET = MiniString.asComponent("<dark_gray>[");
-    private static final Component CLOSING_BRACKET = MiniString.asComponent("<dark_gray>] ");
-    private static final Component HEART = MiniString.asComponent("<red>❤");
+    private static final MiniString.Template DISPLAY_NAME =
+            MiniString.template("<dark_gray>[<gray>Lv{0}<dark_gray>] <red>{1} <green>{2}/{3}<red>❤");
 
     /**
      * Creates a new SkyblockEntity with the specified entity type
@@ -111,14 +122,7 @@ public abstract class SkyblockEntity extends EntityCreature {
      * @return the formatted display name
      */
     public Component displayName() {
-        return textOfChildren(
-                OPENING_BRACKET,
-                text("Lv" + level, GRAY),
-                CLOSING_BRACKET,
-                text(name() + " ", RED),
-                text(formatClean(getCurrentHealth()) + "/" + formatClean(maxHealth), GREEN),
-                HEART
-        );
+        return DISPLAY_NAME.fill(level, name(), formatClean(getCurrentHealth()), formatClean(maxHealth));
     }
 
     /**
@@ -156,13 +160,22 @@ public abstract class SkyblockEntity extends EntityCreature {
      * @param health the new health value
      */
     public void setHealth(double health) {
+        updateHealth(health);
+        set(DataComponents.CUSTOM_NAME, displayName());
+    }
+
+    /**
+     * Sets the current health and kills the entity if it is depleted, without
+     * refreshing the display name.
+     *
+     * @param health the new health value
+     */
+    private void updateHealth(double health) {
         this.currentHealth = Math.min(health, maxHealth);
 
         if (this.currentHealth <= 0 && !isDead && !isInvulnerable) {
             kill();
         }
-
-        set(DataComponents.CUSTOM_NAME, displayName());
     }
 
     /**
@@ -237,18 +250,65 @@ public abstract class SkyblockEntity extends EntityCreature {
 
     /**
      * Applies damage to this entity with visual and audio effects.
+     * <p>
+     * Health is reduced immediately, while the name refresh, damage packet and hurt
+     * sound are deferred to the end of the tick and sent once for all hits of the tick.
      *
      * @param damage the damage to apply
      */
     public void damage(SkyblockDamage damage) {
         if (isInvulnerable() || isDead()) return;
 
-        double finalDamage = applyDefenseReduction(damage.rawDamage(), damage.damageType());
-        
-        spawnDamageIndicator(finalDamage, damage.isCritical());
-        sendDamagePacket(damage);
+        damage(damage, applyDefenseReduction(damage.rawDamage(), damage.damageType()));
+    }
+
+    /**
+     * Applies damage whose defense reduction was already calculated, e.g. by an
+     * {@link net.unjoinable.skyblock.combat.damage.AoeDamageBatch}.
+     * <p>
+     * The damage is always applied to this entity. A record whose
+     * {@link SkyblockDamage#target()} is another entity is rebound to this one before it
+     * is buffered, so a record shared by every target of a batch is safe to pass.
+     *
+     * @param damage      the damage to apply
+     * @param finalDamage the damage after this entity's defense
+     */
+    public void damage(SkyblockDamage damage, double finalDamage) {
+        if (isInvulnerable() || isDead()) return;
+
+        SkyblockDamage own = damage.target() == this ? damage : damage.withTarget(this);
+        spawnDamageIndicator(finalDamage, own.isCritical());
         applyHealthDamage(finalDamage);
+        bufferDamage(own);
+    }
+
+    /**
+     * Remembers the hit for the end-of-tick flush, scheduling the flush on the first hit of the tick.
+     */
+    private void bufferDamage(SkyblockDamage damage) {
+        this.pendingDamage = damage;
+
+        if (!this.flushScheduled) {
+            this.flushScheduled = true;
+            MinecraftServer.getSchedulerManager().scheduleEndOfTick(this::flushDamage);
+        }
+    }
+
+    /**
+     * Sends the viewer-facing effects of all hits taken this tick: one damage packet
+     * and hurt sound for the latest hit and one name update for the resulting health.
+     */
+    private void flushDamage() {
+        this.flushScheduled = false;
+        SkyblockDamage damage = this.pendingDamage;
+        this.pendingDamage = null;
+        if (damage == null) return;
+
+        sendDamagePacket(damage);
         playHurtSound();
+        if (!isDead) {
+            set(DataComponents.CUSTOM_NAME, displayName()); // Already refreshed by kill() otherwise
+        }
     }
 
     /**
@@ -271,7 +331,7 @@ public abstract class SkyblockEntity extends EntityCreature {
      * @param damageType the type of damage being dealt
      * @return the amount of damage after defense reduction
      */
-    protected double applyDefenseReduction(double damage, DamageType damageType) {
+    public double applyDefenseReduction(double damage, DamageType damageType) {
         if (damageType.bypassesDefense()) return damage;
 
         double defense = statProfile.get(Statistic.DEFENSE);
@@ -279,10 +339,10 @@ public abstract class SkyblockEntity extends EntityCreature {
     }
 
     /**
-     * Spawns a damage indicator at the entity's position.
+     * Shows a damage indicator above the entity to its viewers.
      */
     private void spawnDamageIndicator(double damage, boolean isCritical) {
-        new DamageIndicator(damage, isCritical).spawn(getPosition(), getInstance());
+        DamageIndicatorManager.get().show(this, damage, isCritical);
     }
 
     /**
@@ -299,10 +359,10 @@ public abstract class SkyblockEntity extends EntityCreature {
     }
 
     /**
-     * Applies health reduction from damage.
+     * Applies health reduction from damage. The display name is refreshed by the next flush.
      */
     private void applyHealthDamage(double damage) {
-        setHealth(this.currentHealth - damage);
+        updateHealth(this.currentHealth - damage);
     }
 
     /**
@@ -317,6 +377,16 @@ public abstract class SkyblockEntity extends EntityCreature {
         ));
     }
 
+    @Override
+    public void update(long time) {
+        super.update(time);
+
+        SkyblockEntityGrid indexedIn = this.grid;
+        if (indexedIn != null) {
+            indexedIn.update(this);
+        }
+    }
+
     @Override
     public void heal() {/*Empty to disable Minestom health operations*/}
 }
\ No newline at end of file
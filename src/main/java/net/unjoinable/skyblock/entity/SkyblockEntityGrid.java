@@ -0,0 +1,215 @@
+package net.unjoinable.skyblock.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.tag.Tag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A spatial index of the {@link SkyblockEntity}s in one instance.
+ * <p>
+ * Entities are bucketed by the chunk they stand in. Range and cone queries only visit the
+ * buckets overlapping the query bounds and never look at players, items or other
+ * non-Skyblock entities. The grid is attached to its instance with a transient tag and
+ * is kept up to date from spawn and instance removal events and {@link SkyblockEntity#update(long)}.
+ * Every entity remembers the grid it is indexed in, so an entity changing instances is
+ * always removed from the grid of the instance it left.
+ * <p>
+ * Queries append their results to a caller-supplied list, so hot paths such as AoE
+ * abilities can reuse one list instead of allocating a new collection per query.
+ */
+public final class SkyblockEntityGrid {
+    private static final Tag<SkyblockEntityGrid> GRID_TAG = Tag.Transient("skyblock:entity_grid");
+    private static final int CHUNK_SHIFT = 4;
+    private static final Object CREATION_LOCK = new Object();
+    static final long NOT_INDEXED = Long.MIN_VALUE;
+
+    private final Long2ObjectOpenHashMap<List<SkyblockEntity>> buckets = new Long2ObjectOpenHashMap<>();
+
+    private SkyblockEntityGrid() {}
+
+    /**
+     * Returns the grid of the instance, creating it on first use.
+     *
+     * @param instance the instance
+     * @return the instance's entity grid
+     */
+    public static SkyblockEntityGrid of(Instance instance) {
+        SkyblockEntityGrid grid = instance.getTag(GRID_TAG);
+        if (grid != null) {
+            return grid;
+        }
+
+        synchronized (CREATION_LOCK) {
+            grid = instance.getTag(GRID_TAG);
+            if (grid == null) {
+                grid = new SkyblockEntityGrid();
+                instance.setTag(GRID_TAG, grid);
+            }
+            return grid;
+        }
+    }
+
+    /**
+     * Adds an entity at its current position, removing it from the grid it was indexed
+     * in before. Call this once the entity has spawned, i.e. its position is set.
+     *
+     * @param entity the entity that spawned in this grid's instance
+     */
+    public void add(SkyblockEntity entity) {
+        SkyblockEntityGrid previous = entity.grid;
+        if (previous != null && previous != this) {
+            previous.remove(entity); // Outside of our lock, grids never lock each other
+        }
+
+        synchronized (this) {
+            if (entity.grid == this) {
+                removeFromBucket(entity, entity.gridChunk);
+            }
+
+            long chunk = chunkIndex(entity.getPosition());
+            buckets.computeIfAbsent(chunk, _ -> new ArrayList<>()).add(entity);
+            entity.grid = this;
+            entity.gridChunk = chunk;
+        }
+    }
+
+    /**
+     * Removes an entity from the grid if it is indexed in it.
+     *
+     * @param entity the entity that left the instance
+     */
+    public synchronized void remove(SkyblockEntity entity) {
+        if (entity.grid != this) return;
+
+        removeFromBucket(entity, entity.gridChunk);
+        entity.grid = null;
+        entity.gridChunk = NOT_INDEXED;
+    }
+
+    /**
+     * Moves the entity to another bucket if it crossed a chunk border since the last call.
+     *
+     * @param entity the entity that may have moved
+     */
+    public void update(SkyblockEntity entity) {
+        long chunk = chunkIndex(entity.getPosition());
+        if (chunk == entity.gridChunk) return; // Fast path, nothing changed
+
+        synchronized (this) {
+            if (entity.grid != this) return; // Not part of this grid (anymore)
+
+            removeFromBucket(entity, entity.gridChunk);
+            buckets.computeIfAbsent(chunk, _ -> new ArrayList<>()).add(entity);
+            entity.gridChunk = chunk;
+        }
+    }
+
+    /**
+     * Collects all living entities within the given distance of a point.
+     *
+     * @param center the center of the sphere
+     * @param range  the radius of the sphere
+     * @param out    the list matching entities are appended to
+     * @return the number of entities appended
+     */
+    public synchronized int queryRange(Point center, double range, List<SkyblockEntity> out) {
+        double rangeSquared = range * range;
+        int found = 0;
+
+        int minChunkX = chunkCoordinate(center.x() - range);
+        int maxChunkX = chunkCoordinate(center.x() + range);
+        int minChunkZ = chunkCoordinate(center.z() - range);
+        int maxChunkZ = chunkCoordinate(center.z() + range);
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                List<SkyblockEntity> bucket = buckets.get(chunkIndex(chunkX, chunkZ));
+                if (bucket == null) continue;
+
+                for (int i = 0; i < bucket.size(); i++) {
+                    SkyblockEntity entity = bucket.get(i);
+                    if (!entity.isDead() && entity.getPosition().distanceSquared(center) <= rangeSquared) {
+                        out.add(entity);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Collects all living entities inside a cone, e.g. in front of a player.
+     *
+     * @param origin    the tip of the cone
+     * @param direction the axis of the cone, does not need to be normalized
+     * @param range     the length of the cone
+     * @param halfAngle the angle between the axis and the cone surface, in degrees
+     * @param out       the list matching entities are appended to
+     * @return the number of entities appended
+     */
+    public synchronized int queryCone(Point origin, Vec direction, double range, double halfAngle, List<SkyblockEntity> out) {
+        Vec axis = direction.normalize();
+        double cosHalfAngle = Math.cos(Math.toRadians(halfAngle));
+        double rangeSquared = range * range;
+        int found = 0;
+
+        int minChunkX = chunkCoordinate(origin.x() - range);
+        int maxChunkX = chunkCoordinate(origin.x() + range);
+        int minChunkZ = chunkCoordinate(origin.z() - range);
+        int maxChunkZ = chunkCoordinate(origin.z() + range);
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                List<SkyblockEntity> bucket = buckets.get(chunkIndex(chunkX, chunkZ));
+                if (bucket == null) continue;
+
+                for (int i = 0; i < bucket.size(); i++) {
+                    SkyblockEntity entity = bucket.get(i);
+                    if (entity.isDead()) continue;
+
+                    Point position = entity.getPosition();
+                    double dx = position.x() - origin.x();
+                    double dy = position.y() - origin.y();
+                    double dz = position.z() - origin.z();
+                    double lengthSquared = dx * dx + dy * dy + dz * dz;
+                    if (lengthSquared > rangeSquared) continue;
+
+                    double dot = dx * axis.x() + dy * axis.y() + dz * axis.z();
+                    if (lengthSquared == 0 || dot >= cosHalfAngle * Math.sqrt(lengthSquared)) {
+                        out.add(entity);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private void removeFromBucket(SkyblockEntity entity, long chunk) {
+        List<SkyblockEntity> bucket = buckets.get(chunk);
+        if (bucket == null) return;
+
+        bucket.remove(entity);
+        if (bucket.isEmpty()) {
+            buckets.remove(chunk);
+        }
+    }
+
+    private static long chunkIndex(Point position) {
+        return chunkIndex(position.blockX() >> CHUNK_SHIFT, position.blockZ() >> CHUNK_SHIFT);
+    }
+
+    private static long chunkIndex(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static int chunkCoordinate(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> CHUNK_SHIFT;
+    }
+}
@@ -3,8 +3,11 @@ package net.unjoinable.skyblock.event.listener;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.event.GlobalEventHandler;
 import net.minestom.server.event.entity.EntityAttackEvent;
+import net.minestom.server.event.entity.EntitySpawnEvent;
+import net.minestom.server.event.instance.RemoveEntityFromInstanceEvent;
 import net.unjoinable.skyblock.combat.damage.SkyblockDamage;
 import net.unjoinable.skyblock.entity.SkyblockEntity;
+import net.unjoinable.skyblock.entity.SkyblockEntityGrid;
 import net.unjoinable.skyblock.event.custom.PlayerDamageEvent;
 import net.unjoinable.skyblock.player.SkyblockPlayer;
 
@@ -17,6 +20,24 @@ public class EntityListener {
 
     public void register() {
         registerEntityAttackListener();
+        registerEntityGridListeners();
+    }
+
+    /**
+     * Keeps the {@link SkyblockEntityGrid} of every instance in sync with the Skyblock entities in it.
+     * Entities are indexed on spawn rather than when added, as only then their position is set.
+     */
+    private void registerEntityGridListeners() {
+        eventHandler.addListener(EntitySpawnEvent.class, event -> {
+            if (event.getEntity() instanceof SkyblockEntity entity) {
+                SkyblockEntityGrid.of(event.getSpawnInstance()).add(entity);
+            }
+        });
+        eventHandler.addListener(RemoveEntityFromInstanceEvent.class, event -> {
+            if (event.getEntity() instanceof SkyblockEntity entity) {
+                SkyblockEntityGrid.of(event.getInstance()).remove(entity);
+            }
+        });
     }
 
     private void registerEntityAttackListener() {
@@ -1,9 +1,11 @@
 package net.unjoinable.skyblock.event.listener.player.inventory;
 
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.event.player.PlayerSwapItemEvent;
 import net.unjoinable.skyblock.player.SkyblockPlayer;
 import net.unjoinable.skyblock.player.ui.inventory.VanillaItemSlot;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -14,6 +16,8 @@ public class PlayerSwapItemListener implements Consumer<PlayerSwapItemEvent> {
     @Override
     public void accept(PlayerSwapItemEvent event) {
         SkyblockPlayer player = (SkyblockPlayer) event.getPlayer();
-        player.getStatSystem().updateSlot(VanillaItemSlot.MAIN_HAND);
+        // The event fires before the hands are swapped
+        MinecraftServer.getSchedulerManager().scheduleEndOfTick(() ->
+                player.getStatSystem().updateSlots(List.of(VanillaItemSlot.MAIN_HAND, VanillaItemSlot.OFF_HAND)));
     }
 }
\ No newline at end of file
@@ -4,8 +4,8 @@ import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.Instance;
-import net.unjoinable.skyblock.combat.damage.SkyblockDamage;
 import net.unjoinable.skyblock.entity.SkyblockEntity;
+import net.unjoinable.skyblock.entity.SkyblockEntityGrid;
 import net.unjoinable.skyblock.item.SkyblockItem;
 import net.unjoinable.skyblock.item.ability.AbilityCostType;
 import net.unjoinable.skyblock.item.ability.ExecutionType;
@@ -14,6 +14,7 @@ import net.unjoinable.skyblock.player.SkyblockPlayer;
 import net.unjoinable.skyblock.utils.MiniString;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -76,14 +77,10 @@ public class WitherImpact implements MagicAbility {
             Point center = player.getPosition();
             double range = 10;
 
-            instance.getNearbyEntities(center, range)
-                    .stream()
-                    .filter(SkyblockEntity.class::isInstance)
-                    .map(SkyblockEntity.class::cast)
-                    .forEach(entity -> {
-                        SkyblockDamage dmg = player.getCombatSystem().magicAttack(entity, this);
-                        entity.damage(dmg);
-                    });
+            List<SkyblockEntity> targets = new ArrayList<>();
+            SkyblockEntityGrid.of(instance).queryRange(center, range, targets);
+
+            player.getCombatSystem().magicAttack(targets, this).apply();
         };
     }
 
@@ -2,13 +2,22 @@ package net.unjoinable.skyblock.item.attribute;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.kyori.adventure.key.Key;
 import net.minestom.server.codec.Codec;
+import net.unjoinable.skyblock.combat.statistic.StatProfile;
+import net.unjoinable.skyblock.item.ItemMetadata;
 import net.unjoinable.skyblock.item.attribute.traits.ItemAttribute;
+import net.unjoinable.skyblock.item.attribute.traits.LoreAttribute;
+import net.unjoinable.skyblock.item.attribute.traits.StatModifierAttribute;
 import net.unjoinable.skyblock.registry.registries.CodecRegistry;
+import net.unjoinable.skyblock.utils.cache.CacheStats;
+import net.unjoinable.skyblock.utils.cache.WeakInterner;
 import net.unjoinable.skyblock.utils.codec.AttributeContainerCodec;
+import org.jspecify.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.stream.Stream;
 
 /**
@@ -17,15 +26,46 @@ import java.util.stream.Stream;
  * <p>This container stores attributes by their Key and provides
  * methods to retrieve and check for attributes. Modifications are handled
  * through the Builder pattern, ensuring immutability of the main container.</p>
+ *
+ * <p>Typed lookups are answered from an index of every attribute type (class and
+ * implemented interfaces) built at construction, and lore and stat modifier
+ * attributes are kept pre-sorted by priority.</p>
+ *
+ * <p>Containers created by the {@link Builder} and the attributes inside them are
+ * interned: structurally equal containers and attributes share one instance across
+ * the server, so most equality checks end at the reference comparison.</p>
  */
 public final class AttributeContainer implements Iterable<ItemAttribute> {
+    /**
+     * Every type an attribute class can be looked up by, computed once per class.
+     */
+    private static final ClassValue<List<Class<?>>> ATTRIBUTE_TYPES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            Set<Class<?>> types = new LinkedHashSet<>();
+            collectAttributeTypes(type, types);
+            return List.copyOf(types);
+        }
+    };
+    private static final WeakInterner<ItemAttribute> ATTRIBUTE_INTERNER = new WeakInterner<>();
+    private static final WeakInterner<AttributeContainer> CONTAINER_INTERNER = new WeakInterner<>();
+    private static final int MAX_STAT_MEMOS = 8; // Shared containers such as EMPTY back many items
+    private static final StatMemo[] NO_STAT_MEMOS = new StatMemo[0];
+
     /**
      * Retrieves the shared immutable instance of an empty attribute container.
      */
     public static final AttributeContainer EMPTY = new AttributeContainer(new Object2ObjectOpenHashMap<>());
     public static final Codec<AttributeContainer> CODEC = new AttributeContainerCodec(CodecRegistry.withDefaults());
+    private static final AtomicReferenceFieldUpdater<AttributeContainer, StatMemo[]> STAT_MEMOS =
+            AtomicReferenceFieldUpdater.newUpdater(AttributeContainer.class, StatMemo[].class, "statMemos");
 
     private final Object2ObjectOpenHashMap<Key, ItemAttribute> attributeMap;
+    private final Reference2ObjectOpenHashMap<Class<?>, ItemAttribute> typeIndex;
+    private final List<LoreAttribute> loreAttributes;
+    private final List<StatModifierAttribute> statModifiers;
+    private int hash; // Lazily computed, 0 until first hashCode() call
+    private volatile StatMemo[] statMemos = NO_STAT_MEMOS; // Copy on write, one entry per metadata
 
     /**
      * Constructs an immutable AttributeContainer using given map.
@@ -35,6 +75,38 @@ public final class AttributeContainer implements Iterable<ItemAttribute> {
     private AttributeContainer(Object2ObjectOpenHashMap<Key, ItemAttribute> attributeMap) {
         this.attributeMap = new Object2ObjectOpenHashMap<>(attributeMap);
         this.attributeMap.trim(); // Optimize memory usage
+
+        this.typeIndex = new Reference2ObjectOpenHashMap<>();
+        List<LoreAttribute> lore = new ArrayList<>();
+        List<StatModifierAttribute> modifiers = new ArrayList<>();
+
+        for (ItemAttribute attribute : this.attributeMap.values()) {
+            for (Class<?> type : ATTRIBUTE_TYPES.get(attribute.getClass())) {
+                typeIndex.putIfAbsent(type, attribute);
+            }
+            if (attribute instanceof LoreAttribute loreAttribute) lore.add(loreAttribute);
+            if (attribute instanceof StatModifierAttribute modifier) modifiers.add(modifier);
+        }
+        this.typeIndex.trim();
+
+        lore.sort(Comparator.comparingInt(LoreAttribute::priority));
+        modifiers.sort(Comparator.comparingInt(StatModifierAttribute::modifierPriority));
+        this.loreAttributes = List.copyOf(lore);
+        this.statModifiers = List.copyOf(modifiers);
+    }
+
+    /**
+     * Adds the class and every superclass and interface of it that is an {@link ItemAttribute}.
+     */
+    private static void collectAttributeTypes(@Nullable Class<?> type, Set<Class<?>> types) {
+        if (type == null || !ItemAttribute.class.isAssignableFrom(type) || !types.add(type)) {
+            return;
+        }
+
+        collectAttributeTypes(type.getSuperclass(), types);
+        for (Class<?> iface : type.getInterfaces()) {
+            collectAttributeTypes(iface, types);
+        }
     }
 
     /**
@@ -46,6 +118,26 @@ public final class AttributeContainer implements Iterable<ItemAttribute> {
         return EMPTY;
     }
 
+    /**
+     * Returns counters of the container interner. Hits are containers that were
+     * replaced by an existing equal instance, size is the number of live canonical containers.
+     *
+     * @return the container interner statistics
+     */
+    public static CacheStats containerInternerStats() {
+        return CONTAINER_INTERNER.stats();
+    }
+
+    /**
+     * Returns counters of the attribute interner. Hits are attributes that were
+     * replaced by an existing equal instance, size is the number of live canonical attributes.
+     *
+     * @return the attribute interner statistics
+     */
+    public static CacheStats attributeInternerStats() {
+        return ATTRIBUTE_INTERNER.stats();
+    }
+
     /**
      * Returns whether the container has no attributes.
      *
@@ -73,12 +165,19 @@ public final class AttributeContainer implements Iterable<ItemAttribute> {
      * @return an Optional containing the attribute instance if found, or an empty Optional if not present
      */
     public <T extends ItemAttribute> Optional<T> get(Class<T> type) {
-        for (ItemAttribute attribute : attributeMap.values()) {
-            if (type.isInstance(attribute)) {
-                return Optional.of(type.cast(attribute));
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(type.cast(typeIndex.get(type)));
+    }
+
+    /**
+     * Returns an attribute of the specified class type without wrapping it in an Optional,
+     * for lookups on hot paths.
+     *
+     * @param type the class of the attribute to retrieve
+     * @param <T> the type of the attribute
+     * @return the attribute instance, or null if not present
+     */
+    public <T extends ItemAttribute> @Nullable T getOrNull(Class<T> type) {
+        return type.cast(typeIndex.get(type));
     }
 
     /**
@@ -98,12 +197,26 @@ public final class AttributeContainer implements Iterable<ItemAttribute> {
      * @return true if an attribute of the given class type exists; false otherwise
      */
     public boolean contains(Class<? extends ItemAttribute> type) {
-        for (ItemAttribute attribute : attributeMap.values()) {
-            if (type.isInstance(attribute)) {
-                return true;
-            }
-        }
-        return false;
+        return typeIndex.containsKey(type);
+    }
+
+    /**
+     * Returns all lore attributes of this container, sorted by {@link LoreAttribute#priority()}.
+     *
+     * @return an immutable, pre-sorted list of lore attributes
+     */
+    public List<LoreAttribute> loreAttributes() {
+        return loreAttributes;
+    }
+
+    /**
+     * Returns all stat modifier attributes of this container, sorted by
+     * {@link StatModifierAttribute#modifierPriority()}.
+     *
+     * @return an immutable, pre-sorted list of stat modifiers
+     */
+    public List<StatModifierAttribute> statModifiers() {
+        return statModifiers;
     }
 
     /**
@@ -133,6 +246,58 @@ public final class AttributeContainer implements Iterable<ItemAttribute> {
         return attributeMap.size();
     }
 
+    /**
+     * Returns the item stats memoized for this container, if they were computed for the given metadata.
+     *
+     * @param metadata the metadata the stats must have been computed with
+     * @return the frozen memoized stats, or null if none are memoized for this metadata
+     */
+    public @Nullable StatProfile memoizedStats(ItemMetadata metadata) {
+        for (StatMemo memo : statMemos) {
+            if (memo.metadata() == metadata || memo.metadata().equals(metadata)) {
+                return memo.stats();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Memoizes the item stats computed from this container and the given metadata.
+     * <p>
+     * Stats are kept per metadata, so items sharing this container do not evict each
+     * other's stats. At most {@value #MAX_STAT_MEMOS} metadata are memoized per container;
+     * past that, stats for further metadata are simply not memoized.
+     *
+     * @param metadata the metadata the stats were computed with
+     * @param stats    the computed stats; must be frozen since they are shared
+     * @return true if a new memo was added, false if the metadata was already memoized or the container is full
+     * @throws IllegalArgumentException if the stats are not frozen
+     */
+    public boolean memoizeStats(ItemMetadata metadata, StatProfile stats) {
+        if (!stats.isFrozen()) {
+            throw new IllegalArgumentException("Memoized stats must be frozen");
+        }
+
+        StatMemo memo = new StatMemo(metadata, stats);
+        while (true) {
+            StatMemo[] current = statMemos;
+            if (current.length >= MAX_STAT_MEMOS) {
+                return false;
+            }
+            for (StatMemo existing : current) {
+                if (existing.metadata().equals(metadata)) {
+                    return false;
+                }
+            }
+
+            StatMemo[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = memo;
+            if (STAT_MEMOS.compareAndSet(this, current, updated)) {
+                return true;
+            }
+        }
+    }
+
     /**
      * Creates a new builder pre-populated with the attributes from this container.
      *
@@ -158,6 +323,36 @@ public final class AttributeContainer implements Iterable<ItemAttribute> {
         return attributeMap.values().iterator();
     }
 
+    /**
+     * Two containers are equal if they hold equal attributes under the same keys.
+     *
+     * @param o the object to compare with
+     * @return true if both containers hold the same attributes
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AttributeContainer other)) return false;
+        return hashCode() == other.hashCode() && attributeMap.equals(other.attributeMap);
+    }
+
+    /**
+     * Returns the hash of the attribute map, computed once since the container is immutable.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = attributeMap.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    private record StatMemo(ItemMetadata metadata, StatProfile stats) {}
+
     /**
      * Mutable builder for creating AttributeContainer instances.
      */
@@ -202,17 +397,24 @@ public final class AttributeContainer implements Iterable<ItemAttribute> {
 
         /**
          * Creates an immutable AttributeContainer containing the current set of attributes in the builder.
+         * <p>
+         * The attributes and the container are interned, so building a container equal to
+         * one that is still in use returns that existing instance.
          *
-         * @return a new immutable AttributeContainer with the builder's attributes
+         * @return an immutable AttributeContainer with the builder's attributes
          */
         public AttributeContainer build() {
+            if (attributes.isEmpty()) {
+                return EMPTY;
+            }
+
             Object2ObjectOpenHashMap<Key, ItemAttribute> attributeMap = new Object2ObjectOpenHashMap<>(attributes.size());
 
             for (ItemAttribute attr : attributes) {
-                attributeMap.put(attr.key(), attr);
+                attributeMap.put(attr.key(), ATTRIBUTE_INTERNER.intern(attr));
             }
 
-            return new AttributeContainer(attributeMap);
+            return CONTAINER_INTERNER.intern(new AttributeContainer(attributeMap));
         }
     }
 }
\ No newline at end of file
@@ -33,6 +33,15 @@ public record AbilityAttribute(List<ItemAbility> abilities) implements LoreAttri
             AbilityAttribute::new
     );
 
+    /**
+     * Interned instances are shared between items, so the abilities are copied into an immutable list.
+     *
+     * @param abilities The abilities of the item
+     */
+    public AbilityAttribute {
+        abilities = List.copyOf(abilities);
+    }
+
     @Override
     public @NotNull Key key() {
         return KEY;
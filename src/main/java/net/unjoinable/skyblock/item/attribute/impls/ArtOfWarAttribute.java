@@ -32,10 +32,15 @@ public record ArtOfWarAttribute(boolean applied) implements StatModifierAttribut
     @Override
     public StatProfile modifierStats(@Nullable SkyblockPlayer player, AttributeContainer container, ItemMetadata metadata) {
         StatProfile profile = new StatProfile();
-        if (applied) profile.addStat(STRENGTH, StatValueType.BASE ,40D);
+        applyModifier(player, container, metadata, profile);
         return profile;
     }
 
+    @Override
+    public void applyModifier(@Nullable SkyblockPlayer player, AttributeContainer container, ItemMetadata metadata, StatProfile target) {
+        if (applied) target.addStat(STRENGTH, StatValueType.BASE, 40D);
+    }
+
     @Override
     public Map<Statistic, Component> display() {
         return Map.of(STRENGTH, text("[40]", RED));
@@ -8,7 +8,7 @@ import net.unjoinable.skyblock.item.ItemMetadata;
 import net.unjoinable.skyblock.item.attribute.AttributeContainer;
 import net.unjoinable.skyblock.item.attribute.traits.ItemAttribute;
 import net.unjoinable.skyblock.item.attribute.traits.LoreAttribute;
-import net.unjoinable.skyblock.item.service.AttributeResolver;
+import net.unjoinable.skyblock.item.attribute.traits.StatModifierAttribute;
 import net.unjoinable.skyblock.item.service.ItemStatsCalculator;
 import net.unjoinable.skyblock.player.SkyblockPlayer;
 import net.unjoinable.skyblock.combat.statistic.StatProfile;
@@ -61,14 +61,15 @@ public record BaseStatsAttribute(Map<Statistic, Double> baseStats) implements Lo
 
     @Override
     public List<Component> loreLines(@Nullable SkyblockPlayer player, AttributeContainer container, ItemMetadata metadata) {
-        StatProfile addedStats = ItemStatsCalculator.computeItemStats(container, metadata);
+        StatProfile addedStats = ItemStatsCalculator.itemStats(container, metadata);
+        List<StatModifierAttribute> modifiers = container.statModifiers();
         List<Component> loreLines = new ArrayList<>();
 
         for (Statistic stat : Statistic.values()) {
             double value = addedStats.get(stat);
             if (value == 0D) continue;
 
-            loreLines.add(formatStat(container ,stat, value));
+            loreLines.add(formatStat(modifiers, stat, value));
         }
 
         return loreLines;
@@ -79,6 +80,16 @@ public record BaseStatsAttribute(Map<Statistic, Double> baseStats) implements Lo
         return 0;
     }
 
+    /**
+     * Stat lines include modifier contributions and displays from the rest of the container.
+     *
+     * @return always true
+     */
+    @Override
+    public boolean dependsOnContainer() {
+        return true;
+    }
+
     // Helper method
 
     /**
@@ -87,12 +98,12 @@ public record BaseStatsAttribute(Map<Statistic, Double> baseStats) implements Lo
      * <p>
      * The value must be non-zero; this method assumes it has already been filtered out if zero.
      *
-     * @param container The attribute container, used for context
+     * @param modifiers The item's stat modifiers in priority order, used for context
      * @param stat  The statistic to format (e.g. Strength, Crit Chance)
      * @param value The non-zero value of the stat
      * @return A {@link Component} representing the stat line for display
      */
-    private static Component formatStat(AttributeContainer container, Statistic stat, double value) {
+    private static Component formatStat(List<StatModifierAttribute> modifiers, Statistic stat, double value) {
         boolean isPercent = stat.isPercentage();
         String formattedValue = String.format(isPercent ? "%.1f" : "%.0f", value);
 
@@ -101,10 +112,10 @@ public record BaseStatsAttribute(Map<Statistic, Double> baseStats) implements Lo
                 .append(text("+" + formattedValue + (isPercent ? "%" : ""), stat.loreColor()))
                 .decoration(ITALIC, false);
 
-        AttributeResolver.getStatModifiers(container).forEach(statModifiers -> {
-            if (!statModifiers.shouldDisplay()) return;
+        for (StatModifierAttribute statModifiers : modifiers) {
+            if (!statModifiers.shouldDisplay()) continue;
             basic.append(WHITE_SPACE).append(statModifiers.display().getOrDefault(stat, Component.empty()));
-        });
+        }
 
         return basic.build();
     }
@@ -13,7 +13,6 @@ import net.unjoinable.skyblock.utils.MiniString;
 import org.jetbrains.annotations.NotNull;
 import org.jspecify.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -26,13 +25,18 @@ public record DescriptionAttribute(List<Component> description) implements LoreA
             DescriptionAttribute::new
     );
 
-    public DescriptionAttribute(List<Component> description) {
-        this.description = new ArrayList<>(description);
+    /**
+     * Interned instances are shared between items, so the lines are copied into an immutable list.
+     *
+     * @param description The description lines
+     */
+    public DescriptionAttribute {
+        description = List.copyOf(description);
     }
 
     @Override
     public List<Component> loreLines(@Nullable SkyblockPlayer player, AttributeContainer container, ItemMetadata metadata) {
-        return new ArrayList<>(description);
+        return description;
     }
 
     @Override
@@ -43,4 +43,17 @@ public interface LoreAttribute extends ItemAttribute {
      * @return the priority value for sorting lore lines
      */
     int priority();
+
+    /**
+     * Returns whether this attribute's lore depends on other attributes of the container,
+     * not only on the attribute itself and the item metadata.
+     * <p>
+     * Lore of independent attributes is cached per attribute and metadata; lore of
+     * dependent attributes is additionally cached per container.
+     *
+     * @return true if the lore lines are derived from other attributes in the container
+     */
+    default boolean dependsOnContainer() {
+        return false;
+    }
 }
\ No newline at end of file
@@ -58,6 +58,23 @@ public interface StatModifierAttribute extends ItemAttribute {
      */
     StatProfile modifierStats(@Nullable SkyblockPlayer player, AttributeContainer container, ItemMetadata metadata);
 
+    /**
+     * Applies this attribute's stat modifications directly to an accumulating profile.
+     *
+     * <p>The default implementation combines the result of
+     * {@link #modifierStats(SkyblockPlayer, AttributeContainer, ItemMetadata)} into the
+     * target. Implementations on hot paths should override this to write into the
+     * target without allocating an intermediate profile.
+     *
+     * @param player the player context for calculations, may be {@code null}
+     * @param container the attribute container holding the item's attributes
+     * @param metadata the item's metadata containing additional information
+     * @param target the profile accumulating the item's stats
+     */
+    default void applyModifier(@Nullable SkyblockPlayer player, AttributeContainer container, ItemMetadata metadata, StatProfile target) {
+        target.combineWith(modifierStats(player, container, metadata));
+    }
+
     /**
      * Returns display components for this attribute's stat modifications.
      *
@@ -4,7 +4,6 @@ import net.unjoinable.skyblock.item.attribute.AttributeContainer;
 import net.unjoinable.skyblock.item.attribute.impls.UpgradedRarityAttribute;
 import net.unjoinable.skyblock.item.attribute.traits.StatModifierAttribute;
 
-import java.util.Comparator;
 import java.util.stream.Stream;
 
 /**
@@ -54,14 +53,12 @@ public class AttributeResolver {
     /**
      * Retrieves all stat modifier attributes from the given container.
      * <p>
-     * This method streams through all attributes in the container and filters
-     * for those that implement the {@link StatModifierAttribute} interface.
-     * The returned stream can be used to process stat modifiers in a functional
-     * style, allowing for operations like mapping, filtering, or collecting.
+     * The modifiers are streamed from the container's pre-sorted list, so they
+     * appear in {@link StatModifierAttribute#modifierPriority()} order. Hot paths
+     * should iterate {@link AttributeContainer#statModifiers()} directly instead.
      * <p>
      * If no stat modifier attributes are present in the container, an empty
-     * stream is returned. The stream is lazily evaluated, so filtering and
-     * casting operations are only performed when terminal operations are invoked.
+     * stream is returned.
      *
      * @param container the attribute container to query (must not be null)
      * @return a stream of all {@link StatModifierAttribute} instances found
@@ -69,10 +66,6 @@ public class AttributeResolver {
      * @see StatModifierAttribute
      */
     public static Stream<StatModifierAttribute> getStatModifiers(AttributeContainer container) {
-        return container
-                .stream()
-                .filter(StatModifierAttribute.class::isInstance)
-                .map(StatModifierAttribute.class::cast)
-                .sorted(Comparator.comparingInt(StatModifierAttribute::modifierPriority));
+        return container.statModifiers().stream();
     }
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+package net.unjoinable.skyblock.item.service;
+
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.BinaryTagIO;
+import net.kyori.adventure.nbt.BinaryTagTypes;
+import net.kyori.adventure.nbt.ByteArrayBinaryTag;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import net.minestom.server.codec.Result;
+import net.minestom.server.codec.Transcoder;
+import net.unjoinable.skyblock.item.SkyblockItem;
+import net.unjoinable.skyblock.utils.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A binary snapshot of the decoded item catalog.
+ * <p>
+ * The snapshot is a GZIP compressed NBT compound holding every item encoded through
+ * {@link SkyblockItem#CODEC} with the NBT transcoder, together with the SHA-256 hash of
+ * the JSON catalog it was produced from and {@link #FORMAT_VERSION}. It is written on the
+ * first boot after the catalog or the format version changes and read back on every later
+ * boot where both still match, skipping the JSON parse entirely.
+ */
+public final class ItemCatalogSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemCatalogSnapshot.class);
+    private static final String DEFAULT_PATH = "cache/skyblock_items.snapshot";
+    /**
+     * Version of the snapshot layout and of the encoded item format. Bump it on any change
+     * to the codecs of items, metadata, attributes or abilities, or to the enums they encode,
+     * so snapshots written by an older build are rebuilt from JSON.
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    private static final String VERSION_FIELD = "version";
+    private static final String SOURCE_HASH_FIELD = "source_hash";
+    private static final String ITEMS_FIELD = "items";
+
+    private final Path path;
+
+    /**
+     * Creates a snapshot stored at the given path.
+     *
+     * @param path the snapshot file location
+     */
+    public ItemCatalogSnapshot(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Creates a snapshot stored at the path given by the {@code skyblock.itemSnapshot}
+     * system property, or {@value #DEFAULT_PATH} if it is not set.
+     *
+     * @return the default snapshot
+     */
+    public static ItemCatalogSnapshot withDefaults() {
+        return new ItemCatalogSnapshot(Path.of(System.getProperty("skyblock.itemSnapshot", DEFAULT_PATH)));
+    }
+
+    /**
+     * Computes the SHA-256 hash of a classpath resource.
+     *
+     * @param resourcePath the relative path to the resource file
+     * @return the hash bytes
+     * @throws IOException if the resource cannot be read
+     */
+    public static byte[] hashResource(String resourcePath) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(FileUtils.loadResourceAsStream(resourcePath), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+    /**
+     * Reads the encoded items from the snapshot if it exists and was produced from
+     * a catalog with the given hash in the current format version.
+     *
+     * @param sourceHash the hash of the current JSON catalog
+     * @return the encoded item tags, or empty if the snapshot is missing, stale or unreadable
+     */
+    public Optional<List<BinaryTag>> read(byte[] sourceHash) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        CompoundBinaryTag root;
+        try {
+            root = BinaryTagIO.unlimitedReader().read(path, BinaryTagIO.Compression.GZIP);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read item snapshot {}, falling back to JSON", path, e);
+            return Optional.empty();
+        }
+
+        if (root.getInt(VERSION_FIELD, -1) != FORMAT_VERSION
+                || !Arrays.equals(root.getByteArray(SOURCE_HASH_FIELD), sourceHash)) {
+            LOGGER.info("Item snapshot {} is stale, rebuilding from JSON", path);
+            return Optional.empty();
+        }
+
+        ListBinaryTag items = root.getList(ITEMS_FIELD, BinaryTagTypes.COMPOUND);
+        List<BinaryTag> tags = new ArrayList<>(items.size());
+        for (BinaryTag tag : items) {
+            tags.add(tag);
+        }
+        return Optional.of(tags);
+    }
+
+    /**
+     * Encodes the items and writes them to the snapshot, replacing any existing file.
+     * <p>
+     * Failures are logged and otherwise ignored; the next boot simply falls back to JSON again.
+     *
+     * @param sourceHash the hash of the JSON catalog the items were decoded from
+     * @param items      the decoded items
+     */
+    public void write(byte[] sourceHash, List<SkyblockItem> items) {
+        ListBinaryTag.Builder<CompoundBinaryTag> encoded = ListBinaryTag.builder(BinaryTagTypes.COMPOUND);
+
+        for (SkyblockItem item : items) {
+            if (!(SkyblockItem.CODEC.encode(Transcoder.NBT, item) instanceof Result.Ok<BinaryTag>(CompoundBinaryTag tag))) {
+                LOGGER.warn("Item {} cannot be encoded to NBT, not writing item snapshot", item.metadata().key());
+                return;
+            }
+            encoded.add(tag);
+        }
+
+        CompoundBinaryTag root = CompoundBinaryTag.builder()
+                .putInt(VERSION_FIELD, FORMAT_VERSION)
+                .put(SOURCE_HASH_FIELD, ByteArrayBinaryTag.byteArrayBinaryTag(sourceHash))
+                .put(ITEMS_FIELD, encoded.build())
+                .build();
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            BinaryTagIO.writer().write(root, temp, BinaryTagIO.Compression.GZIP);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.info("Wrote item snapshot with {} items to {}", items.size(), path);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write item snapshot {}", path, e);
+        }
+    }
+}
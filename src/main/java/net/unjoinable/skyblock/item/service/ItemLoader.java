@@ -1,34 +1,65 @@
 package net.unjoinable.skyblock.item.service;
 
-import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.codec.Result;
 import net.minestom.server.codec.Transcoder;
 import net.unjoinable.skyblock.item.SkyblockItem;
 import net.unjoinable.skyblock.utils.FileUtils;
-import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
 
+/**
+ * Loads the item catalog from {@code skyblock_items.json}.
+ * <p>
+ * The file is read with a streaming JSON reader, so only the items that are currently
+ * being decoded are held in memory as trees. Parsed items are grouped into fixed size
+ * shards which are decoded through {@link SkyblockItem#CODEC} on a fork-join pool while
+ * the reader keeps parsing the rest of the file.
+ * <p>
+ * The decoded catalog is cached in an {@link ItemCatalogSnapshot}. As long as the JSON
+ * file is unchanged, later boots decode the items from the binary snapshot instead.
+ */
 public final class ItemLoader {
     private static final String SKYBLOCK_ITEMS_PATH = "skyblock_items.json";
+    private static final String ITEMS_FIELD = "items";
+    private static final int SHARD_SIZE = 64;
     private static final Logger LOGGER = LoggerFactory.getLogger(ItemLoader.class);
 
-    private final ExecutorService executor;
+    private final ForkJoinPool pool;
+    private final ItemCatalogSnapshot snapshot;
 
     public ItemLoader() {
-        this.executor = Executors.newSingleThreadExecutor(r -> {
-            Thread t = new Thread(r, "ItemLoader-Thread");
-            t.setDaemon(true);
+        this(ItemCatalogSnapshot.withDefaults());
+    }
+
+    /**
+     * Creates a loader that caches the decoded catalog in the given snapshot.
+     *
+     * @param snapshot the snapshot to read from and write to
+     */
+    public ItemLoader(ItemCatalogSnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), p -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            t.setName("ItemLoader-Worker-" + t.getPoolIndex());
             return t;
-        });
+        }, null, false);
     }
 
     /**
@@ -36,70 +67,234 @@ public final class ItemLoader {
      * @return CompletableFuture containing List of all SkyblockItems, empty list if error occurs
      */
     public CompletableFuture<List<SkyblockItem>> loadItemsAsync() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                LOGGER.debug("Starting to load items on thread: {}", Thread.currentThread().getName());
+        return CompletableFuture.supplyAsync(this::readCatalog, pool);
+    }
 
-                JsonObject root = FileUtils.loadJsonFromResource(SKYBLOCK_ITEMS_PATH);
-                JsonArray items = root.getAsJsonArray("items");
+    /**
+     * Loads all items from the JSON file in resources.
+     * <p>
+     * Parsing happens on the calling thread while decoding is spread across the loader's
+     * fork-join pool. The method blocks until every shard has been decoded.
+     *
+     * @return List of all SkyblockItems, empty list if error occurs
+     */
+    public List<SkyblockItem> loadItems() {
+        try {
+            return readCatalog();
+        } finally {
+            shutdown();
+        }
+    }
 
-                List<SkyblockItem> skyblockItems = new ArrayList<>();
+    /**
+     * Loads the catalog from the snapshot if it matches the JSON file, otherwise from
+     * the JSON file itself, refreshing the snapshot afterwards.
+     * @return List of all SkyblockItems, empty list if error occurs
+     */
+    private List<SkyblockItem> readCatalog() {
+        byte[] sourceHash;
+        try {
+            sourceHash = ItemCatalogSnapshot.hashResource(SKYBLOCK_ITEMS_PATH);
+        } catch (IOException e) {
+            LOGGER.error("Error while reading skyblock_items.json from resources", e);
+            return new ArrayList<>();
+        }
 
-                for (int i = 0; i < items.size(); i++) {
-                    JsonObject itemJson = items.get(i).getAsJsonObject();
-                    SkyblockItem item = loadItem(itemJson);
-                    if (item != null) {
-                        skyblockItems.add(item);
-                    }
-                }
+        Optional<List<BinaryTag>> cached = snapshot.read(sourceHash);
+        if (cached.isPresent()) {
+            long start = System.nanoTime();
+            ShardResult result = collect(submitShards(Transcoder.NBT, cached.get(), ItemLoader::describe));
+
+            if (result.failures().isEmpty()) {
+                LOGGER.info("Loaded {} items from snapshot in {} ms", result.items().size(), (System.nanoTime() - start) / 1_000_000L);
+                return result.items();
+            }
+            LOGGER.warn("{} item(s) in the snapshot no longer decode, rebuilding from JSON", result.failures().size());
+        }
+
+        ShardResult result = readItems();
+        if (!result.failures().isEmpty()) {
+            // A partial catalog must not be cached, or the failed items would stay missing
+            LOGGER.warn("Not writing item snapshot, {} item(s) failed to decode", result.failures().size());
+        } else if (!result.items().isEmpty()) {
+            snapshot.write(sourceHash, result.items());
+        }
+        return result.items();
+    }
+
+    /**
+     * Streams the item array from the JSON file, submitting decode shards as they fill up,
+     * then collects every decoded item in file order.
+     * @return the decoded items and failures, no items if the file cannot be read
+     */
+    private ShardResult readItems() {
+        LOGGER.debug("Starting to load items on thread: {}", Thread.currentThread().getName());
+        List<ForkJoinTask<ShardResult>> shards;
+
+        try (JsonReader reader = FileUtils.openJsonReader(SKYBLOCK_ITEMS_PATH)) {
+            shards = submitShards(reader);
+        } catch (IOException | JsonParseException e) {
+            LOGGER.error("Error while reading skyblock_items.json from resources", e);
+            return new ShardResult(new ArrayList<>(), List.of());
+        }
+
+        ShardResult result = collect(shards);
+        for (DecodeFailure failure : result.failures()) {
+            LOGGER.warn("Failed to decode item #{} ({}): {}", failure.index(), failure.itemKey(), failure.message());
+        }
+
+        if (!result.failures().isEmpty()) {
+            LOGGER.warn("Skipped {} item(s) that could not be decoded", result.failures().size());
+        }
+        LOGGER.info("Loaded {} items in {} shards", result.items().size(), shards.size());
+        return result;
+    }
+
+    /**
+     * Joins every shard in order and merges their items and failures.
+     *
+     * @param shards the submitted shard tasks in catalog order
+     * @return the merged result
+     */
+    private static ShardResult collect(List<ForkJoinTask<ShardResult>> shards) {
+        List<SkyblockItem> items = new ArrayList<>(shards.size() * SHARD_SIZE);
+        List<DecodeFailure> failures = new ArrayList<>();
+
+        for (ForkJoinTask<ShardResult> shard : shards) {
+            ShardResult result = shard.join();
+            items.addAll(result.items());
+            failures.addAll(result.failures());
+        }
+        return new ShardResult(items, failures);
+    }
+
+    /**
+     * Walks the root object and submits every {@value #SHARD_SIZE} parsed items as one decode task.
+     *
+     * @param reader the reader positioned at the start of the document
+     * @return the submitted shard tasks in file order
+     * @throws IOException if the stream cannot be read
+     */
+    private List<ForkJoinTask<ShardResult>> submitShards(JsonReader reader) throws IOException {
+        List<ForkJoinTask<ShardResult>> shards = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!ITEMS_FIELD.equals(reader.nextName())) {
+                reader.skipValue();
+                continue;
+            }
+
+            reader.beginArray();
+            int firstIndex = 0;
+            List<JsonElement> shard = new ArrayList<>(SHARD_SIZE);
 
-                LOGGER.info("Loaded {} items on thread: {}", skyblockItems.size(), Thread.currentThread().getName());
-                return skyblockItems;
+            while (reader.hasNext()) {
+                shard.add(JsonParser.parseReader(reader));
 
-            } catch (IOException e) {
-                LOGGER.error("Error while reading skyblock_items.json from resources", e);
-                return new ArrayList<>();
+                if (shard.size() == SHARD_SIZE) {
+                    shards.add(submitShard(Transcoder.JSON, firstIndex, shard, ItemLoader::describe));
+                    firstIndex += SHARD_SIZE;
+                    shard = new ArrayList<>(SHARD_SIZE);
+                }
+            }
+
+            if (!shard.isEmpty()) {
+                shards.add(submitShard(Transcoder.JSON, firstIndex, shard, ItemLoader::describe));
             }
-        }, executor);
+            reader.endArray();
+        }
+        reader.endObject();
+
+        return shards;
     }
 
     /**
-     * Loads all items from the JSON file in resources synchronously (blocks until complete)
-     * @return List of all SkyblockItems, empty list if error occurs
+     * Splits already materialized items into shards and submits them for decoding.
+     *
+     * @param coder    the transcoder matching the item representation
+     * @param elements the encoded items in catalog order
+     * @param describe extracts an identifier from an encoded item for failure reports
+     * @param <D>      the encoded representation
+     * @return the submitted shard tasks in catalog order
      */
-    public List<SkyblockItem> loadItems() {
-        try {
-            return loadItemsAsync().get();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            LOGGER.error("Item loading was interrupted", e);
-            return new ArrayList<>();
-        } catch (Exception e) {
-            LOGGER.error("Error while loading items synchronously", e);
-            return new ArrayList<>();
-        } finally {
-            shutdown();
+    private <D> List<ForkJoinTask<ShardResult>> submitShards(Transcoder<D> coder, List<D> elements, Function<D, String> describe) {
+        List<ForkJoinTask<ShardResult>> shards = new ArrayList<>();
+        for (int start = 0; start < elements.size(); start += SHARD_SIZE) {
+            List<D> shard = elements.subList(start, Math.min(start + SHARD_SIZE, elements.size()));
+            shards.add(submitShard(coder, start, shard, describe));
         }
+        return shards;
+    }
+
+    private <D> ForkJoinTask<ShardResult> submitShard(Transcoder<D> coder, int firstIndex, List<D> shard, Function<D, String> describe) {
+        return pool.submit(() -> decodeShard(coder, firstIndex, shard, describe));
     }
 
     /**
-     * Handles the deserialization of individual items
-     * @param itemJson The JsonObject representing a single item
-     * @return SkyblockItem or null if deserialization fails
+     * Decodes one shard of items, collecting a failure entry for every item that does not decode.
+     *
+     * @param coder      the transcoder matching the item representation
+     * @param firstIndex the index of the shard's first item within the items array
+     * @param shard      the encoded items
+     * @param describe   extracts an identifier from an encoded item for failure reports
+     * @param <D>        the encoded representation
+     * @return the decoded items and failures of this shard
      */
-    private @Nullable SkyblockItem loadItem(JsonObject itemJson) {
-        Result<SkyblockItem> result = SkyblockItem.CODEC.decode(Transcoder.JSON, itemJson);
+    private static <D> ShardResult decodeShard(Transcoder<D> coder, int firstIndex, List<D> shard, Function<D, String> describe) {
+        List<SkyblockItem> items = new ArrayList<>(shard.size());
+        List<DecodeFailure> failures = new ArrayList<>();
+
+        for (int i = 0; i < shard.size(); i++) {
+            D encoded = shard.get(i);
+            Result<SkyblockItem> result = SkyblockItem.CODEC.decode(coder, encoded);
 
-        if (result instanceof Result.Ok(SkyblockItem item)) {
-            return item;
+            switch (result) {
+                case Result.Ok(SkyblockItem item) -> items.add(item);
+                case Result.Error(String message) -> failures.add(new DecodeFailure(firstIndex + i, describe.apply(encoded), message));
+            }
         }
-        return null;
+
+        return new ShardResult(items, failures);
     }
 
     /**
-     * Shuts down the executor service. Call this when the ItemLoader is no longer needed.
+     * Extracts a human-readable identifier from an item tree for failure reports.
+     *
+     * @param itemJson the raw item tree
+     * @return the item's metadata key, or {@code "unknown"} if it cannot be read
+     */
+    private static String describe(JsonElement itemJson) {
+        if (itemJson instanceof JsonObject item
+                && item.get("metadata") instanceof JsonObject metadata
+                && metadata.get("key") != null
+                && metadata.get("key").isJsonPrimitive()) {
+            return metadata.get("key").getAsString();
+        }
+        return "unknown";
+    }
+
+    /**
+     * Extracts a human-readable identifier from a snapshot item for failure reports.
+     *
+     * @param itemTag the encoded item
+     * @return the item's metadata key, or {@code "unknown"} if it cannot be read
+     */
+    private static String describe(BinaryTag itemTag) {
+        if (itemTag instanceof CompoundBinaryTag item) {
+            return item.getCompound("metadata").getString("key", "unknown");
+        }
+        return "unknown";
+    }
+
+    /**
+     * Shuts down the decoding pool. Call this when the ItemLoader is no longer needed.
      */
     public void shutdown() {
-        executor.shutdown();
+        pool.shutdown();
     }
-}
\ No newline at end of file
+
+    private record ShardResult(List<SkyblockItem> items, List<DecodeFailure> failures) {}
+
+    private record DecodeFailure(int index, String itemKey, String message) {}
+}
@@ -2,11 +2,15 @@ package net.unjoinable.skyblock.item.service;
 
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.codec.Codec;
 import net.minestom.server.codec.Result;
 import net.minestom.server.codec.Transcoder;
 import net.minestom.server.component.DataComponents;
+import net.minestom.server.inventory.AbstractInventory;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.component.AttributeList;
+import net.minestom.server.item.component.CustomData;
 import net.minestom.server.tag.Tag;
 import net.unjoinable.skyblock.item.ItemMetadata;
 import net.unjoinable.skyblock.item.SkyblockItem;
@@ -15,9 +19,20 @@ import net.unjoinable.skyblock.item.attribute.traits.ItemAttribute;
 import net.unjoinable.skyblock.item.attribute.traits.NbtAttribute;
 import net.unjoinable.skyblock.registry.registries.CodecRegistry;
 import net.unjoinable.skyblock.registry.registries.ItemRegistry;
+import net.unjoinable.skyblock.utils.cache.BoundedCache;
+import net.unjoinable.skyblock.utils.cache.CacheStats;
+import net.unjoinable.skyblock.utils.cache.WeakKeyCache;
+import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import static net.kyori.adventure.text.Component.text;
 import static net.kyori.adventure.text.format.TextDecoration.ITALIC;
@@ -27,15 +42,26 @@ import static net.kyori.adventure.text.format.TextDecoration.ITALIC;
  * <p></p>
  * This service handles bidirectional transformation between custom {@link SkyblockItem} objects
  * and Minestom-compatible {@link ItemStack} objects for in-game use.
+ * <p>
+ * The processor is thread-safe: conversions may run concurrently from any thread.
+ * Tag and codec lookups read maps populated at construction and render cache hits
+ * are lock-free. Decode cache lookups take a short per-stripe lock, and decoding a
+ * stack that is not cached also goes through attribute interning.
  */
 public class ItemProcessor {
     // Constants
     private static final Tag<String> ID_TAG = Tag.String("id").defaultValue("skyblock:air");
+    private static final long RENDER_CACHE_WEIGHT = Long.getLong("skyblock.renderCacheWeight", 32_768L);
+    private static final int BATCH_CHUNK_SIZE = 8;
+
 
     // Instance fields
     private final Map<Class<? extends NbtAttribute>, Tag<BinaryTag>> cachedTags;
+    private final Map<String, Codec<? extends ItemAttribute>> nbtCodecs;
     private final CodecRegistry codecRegistry;
     private final ItemRegistry itemRegistry;
+    private final BoundedCache<SkyblockItem, ItemStack> renderCache;
+    private final WeakKeyCache<ItemStack, SkyblockItem> decodeCache;
 
     /**
      * Creates a new ItemProcessor with required registries.
@@ -46,16 +72,90 @@ public class ItemProcessor {
     public ItemProcessor(CodecRegistry codecRegistry, ItemRegistry itemRegistry) {
         this.codecRegistry = codecRegistry;
         this.itemRegistry = itemRegistry;
-        this.cachedTags = new HashMap<>();
+        this.cachedTags = new ConcurrentHashMap<>();
+        this.nbtCodecs = indexNbtAttributes();
+        this.renderCache = new BoundedCache<>(RENDER_CACHE_WEIGHT, ItemProcessor::renderWeight);
+        this.decodeCache = new WeakKeyCache<>();
+    }
+
+    /**
+     * Pre-populates the NBT tag of every registered {@link NbtAttribute} and the codec
+     * used to decode each tag name, so stacks can be decoded before any attribute of
+     * that type has been encoded.
+     *
+     * @return an immutable map of tag names to the codecs decoding them
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Codec<? extends ItemAttribute>> indexNbtAttributes() {
+        Map<String, Codec<? extends ItemAttribute>> codecs = new HashMap<>();
+
+        for (Key key : codecRegistry.secondaryKeys()) {
+            codecRegistry.getPrimaryKey(key)
+                    .filter(NbtAttribute.class::isAssignableFrom)
+                    .ifPresent(attributeClass -> {
+                        String tagName = key.asString();
+                        cachedTags.put((Class<? extends NbtAttribute>) attributeClass, Tag.NBT(tagName));
+                        codecRegistry.getCodecByNamespace(key).ifPresent(codec -> codecs.put(tagName, codec));
+                    });
+        }
+        return Map.copyOf(codecs);
     }
 
     /**
      * Converts a SkyblockItem into a Minestom ItemStack for in-game use.
+     * <p>
+     * Rendered stacks are cached by item value, so converting an equal item again
+     * returns the same immutable stack without rebuilding its NBT and lore.
      *
      * @param skyblockItem The SkyblockItem to convert
      * @return A fully constructed Minestom ItemStack
      */
     public ItemStack toItemStack(SkyblockItem skyblockItem) {
+        return renderCache.get(skyblockItem, this::renderItemStack);
+    }
+
+    /**
+     * Converts a batch of SkyblockItems into ItemStacks, e.g. to fill a menu in one call.
+     * <p>
+     * Equal items in the batch are rendered once and share the resulting stack. Lore
+     * fragments and item stats are cached across items, so a batch of similar items
+     * only pays for what differs between them.
+     *
+     * @param skyblockItems The items to convert
+     * @return The converted stacks, in the same order as the input
+     */
+    public List<ItemStack> toItemStacks(List<SkyblockItem> skyblockItems) {
+        return convertBatch(skyblockItems, this::toItemStack, null);
+    }
+
+    /**
+     * Converts a batch of SkyblockItems into ItemStacks, rendering distinct items in
+     * parallel on the given executor. The calling thread blocks until all are done.
+     *
+     * @param skyblockItems The items to convert
+     * @param executor      The executor to render on
+     * @return The converted stacks, in the same order as the input
+     */
+    public List<ItemStack> toItemStacks(List<SkyblockItem> skyblockItems, Executor executor) {
+        return convertBatch(skyblockItems, this::toItemStack, executor);
+    }
+
+    /**
+     * Returns hit, miss and eviction counters of the render cache used by {@link #toItemStack(SkyblockItem)}.
+     *
+     * @return the render cache statistics
+     */
+    public CacheStats renderCacheStats() {
+        return renderCache.stats();
+    }
+
+    /**
+     * Builds the ItemStack for a SkyblockItem from scratch.
+     *
+     * @param skyblockItem The SkyblockItem to convert
+     * @return A fully constructed Minestom ItemStack
+     */
+    private ItemStack renderItemStack(SkyblockItem skyblockItem) {
         ItemMetadata metadata = skyblockItem.metadata();
         AttributeContainer attributes = skyblockItem.attributes();
         ItemStack.Builder builder = ItemStack.builder(metadata.material());
@@ -71,6 +171,14 @@ public class ItemProcessor {
         return builder.build();
     }
 
+    /**
+     * Approximates the retained size of a rendered stack by its lore length,
+     * which dominates the size of its components.
+     */
+    private static int renderWeight(ItemStack itemStack) {
+        return 1 + itemStack.get(DataComponents.LORE, List.of()).size();
+    }
+
     /**
      * Applies all NBT attributes to the ItemStack builder.
      */
@@ -97,11 +205,110 @@ public class ItemProcessor {
 
     /**
      * Converts a Minestom ItemStack back into a SkyblockItem.
+     * <p>
+     * Decoded items are cached weakly by stack, so repeatedly converting the same
+     * (or an equal) stack, e.g. on every click, only decodes its NBT once.
      *
      * @param itemStack The Minestom ItemStack to convert
      * @return A SkyblockItem representing the ItemStack, or AIR if conversion fails
      */
     public SkyblockItem fromItemStack(ItemStack itemStack) {
+        if (itemStack.isAir()) {
+            return SkyblockItem.AIR;
+        }
+        return decodeCache.get(itemStack, this::decodeItemStack);
+    }
+
+    /**
+     * Converts a batch of ItemStacks back into SkyblockItems, e.g. all equipment of a
+     * player at once. Equal stacks, such as empty slots, are decoded once.
+     *
+     * @param itemStacks The stacks to convert
+     * @return The decoded items, in the same order as the input
+     */
+    public List<SkyblockItem> fromItemStacks(List<ItemStack> itemStacks) {
+        return convertBatch(itemStacks, this::fromItemStack, null);
+    }
+
+    /**
+     * Decodes every slot of an inventory, e.g. for a full-inventory stat refresh.
+     *
+     * @param inventory The inventory to decode
+     * @return The decoded items indexed by slot, with AIR for empty slots
+     */
+    public List<SkyblockItem> fromInventory(AbstractInventory inventory) {
+        return fromItemStacks(Arrays.asList(inventory.getItemStacks()));
+    }
+
+    /**
+     * Returns hit and miss counters of the decode cache used by {@link #fromItemStack(ItemStack)}.
+     *
+     * @return the decode cache statistics
+     */
+    public CacheStats decodeCacheStats() {
+        return decodeCache.stats();
+    }
+
+    /**
+     * Converts every distinct source of a batch once and maps the results back onto
+     * the batch order. Distinct sources are converted in chunks on the executor if one
+     * is given, otherwise on the calling thread.
+     *
+     * @param sources   The values to convert
+     * @param converter The conversion of a single value
+     * @param executor  The executor to convert on, or null to convert on the calling thread
+     * @param <S>       The source type
+     * @param <T>       The result type
+     * @return The converted values, in the same order as the sources
+     */
+    private static <S, T> List<T> convertBatch(List<S> sources, Function<S, T> converter, @Nullable Executor executor) {
+        Map<S, Integer> distinctIndex = new HashMap<>();
+        List<S> distinct = new ArrayList<>();
+        int[] slots = new int[sources.size()];
+
+        for (int i = 0; i < slots.length; i++) {
+            S source = sources.get(i);
+            slots[i] = distinctIndex.computeIfAbsent(source, _ -> {
+                distinct.add(source);
+                return distinct.size() - 1;
+            });
+        }
+
+        Object[] converted = new Object[distinct.size()];
+        if (executor == null || distinct.size() <= BATCH_CHUNK_SIZE) {
+            for (int i = 0; i < converted.length; i++) {
+                converted[i] = converter.apply(distinct.get(i));
+            }
+        } else {
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (int start = 0; start < converted.length; start += BATCH_CHUNK_SIZE) {
+                int from = start;
+                int to = Math.min(start + BATCH_CHUNK_SIZE, converted.length);
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    for (int i = from; i < to; i++) {
+                        converted[i] = converter.apply(distinct.get(i));
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        }
+
+        List<T> results = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            @SuppressWarnings("unchecked")
+            T result = (T) converted[slot];
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Decodes a SkyblockItem from the ID tag and attribute NBT of an ItemStack.
+     *
+     * @param itemStack The Minestom ItemStack to convert
+     * @return A SkyblockItem representing the ItemStack, or AIR if conversion fails
+     */
+    private SkyblockItem decodeItemStack(ItemStack itemStack) {
         Key key = retrieveIdTag(itemStack);
         SkyblockItem templateItem = itemRegistry.get(key).orElse(SkyblockItem.AIR);
         AttributeContainer.Builder attributes = templateItem.attributes().toBuilder();
@@ -112,27 +319,39 @@ public class ItemProcessor {
 
     /**
      * Extracts attribute data from an ItemStack's NBT tags.
+     * <p>
+     * The custom data compound is scanned once and every present key is dispatched to
+     * the codec registered for it, so the cost grows with the tags on the stack rather
+     * than with the number of registered attribute types.
      *
      * @param itemStack The ItemStack to extract attributes from
      * @param builder   The builder to append attributes to
      */
     private void extractAttributesFromItemStack(ItemStack itemStack, AttributeContainer.Builder builder) {
-        cachedTags.forEach((attributeClass, tag) -> codecRegistry.get(attributeClass).ifPresent(codec -> {
-            if (!itemStack.hasTag(tag)) {
-                return;
-            }
+        CustomData customData = itemStack.get(DataComponents.CUSTOM_DATA);
+        if (customData == null) {
+            return;
+        }
 
-            BinaryTag binaryTag = itemStack.getTag(tag);
-            Result<?> result = codec.decode(Transcoder.NBT, binaryTag);
+        CompoundBinaryTag compound = customData.nbt();
+        for (String tagName : compound.keySet()) {
+            Codec<? extends ItemAttribute> codec = nbtCodecs.get(tagName);
+            if (codec == null) {
+                continue;
+            }
 
-            if (result instanceof Result.Ok(ItemAttribute value)) {
+            BinaryTag binaryTag = compound.get(tagName);
+            if (binaryTag != null && codec.decode(Transcoder.NBT, binaryTag) instanceof Result.Ok(ItemAttribute value)) {
                 builder.with(value);
             }
-        }));
+        }
     }
 
     /**
      * Gets or creates an NBT tag for the given attribute.
+     * <p>
+     * Tags of registered attributes are created up front; this only inserts for
+     * attributes missing from the codec registry.
      *
      * @param attribute The NBT attribute
      * @return The Tag object for the attribute
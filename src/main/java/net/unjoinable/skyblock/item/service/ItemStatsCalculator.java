@@ -7,6 +7,11 @@ import net.unjoinable.skyblock.item.attribute.impls.BaseStatsAttribute;
 import net.unjoinable.skyblock.item.attribute.traits.StatModifierAttribute;
 import net.unjoinable.skyblock.combat.statistic.StatProfile;
 import net.unjoinable.skyblock.combat.statistic.StatValueType;
+import net.unjoinable.skyblock.utils.cache.CacheStats;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Utility service for calculating item statistics by combining attributes.
@@ -16,13 +21,84 @@ import net.unjoinable.skyblock.combat.statistic.StatValueType;
  *   <li>Apply base stats from BaseStatsAttribute if present</li>
  *   <li>Apply all StatModifierAttribute contributions</li>
  * </ol>
+ * <p>
+ * {@link #itemStats(AttributeContainer, ItemMetadata)} additionally memoizes a frozen
+ * profile per metadata on the immutable {@link AttributeContainer}, so an item seen
+ * before costs a reference copy, even when its container is shared with other items.
+ * The memory retained by memoized profiles is accounted and capped by
+ * {@code -Dskyblock.statMemoBudget} (bytes); past the budget profiles are still computed
+ * but no longer memoized until collected containers release their share.
  */
 public final class ItemStatsCalculator {
+    private static final long MEMO_BUDGET_BYTES = Long.getLong("skyblock.statMemoBudget", 32L * 1024 * 1024);
+    private static final long MEMO_ENTRY_BYTES = StatProfile.estimatedSizeBytes() + 32; // + memo record
+    private static final Cleaner MEMO_CLEANER = Cleaner.create();
+
+    private static final AtomicLong memoizedBytes = new AtomicLong();
+    private static final AtomicLong memoizedCount = new AtomicLong();
+    private static final LongAdder memoHits = new LongAdder();
+    private static final LongAdder memoMisses = new LongAdder();
 
     private ItemStatsCalculator() {
         throw new UnsupportedOperationException("ItemStatsCalculator cannot be instantiated");
     }
 
+    /**
+     * Returns the read-only stats of an item, memoized on its attribute container.
+     *
+     * @param item The item to get the stats of
+     * @return A frozen {@link StatProfile}; use {@link StatProfile#copy()} to modify it
+     */
+    public static StatProfile itemStats(SkyblockItem item) {
+        return itemStats(item.attributes(), item.metadata());
+    }
+
+    /**
+     * Returns the read-only stats of an item, memoized on its attribute container.
+     * <p>
+     * The first call for a container computes and freezes the profile; later calls with
+     * equal metadata return the same instance.
+     *
+     * @param attributes The attribute container holding base and modifier attributes
+     * @param metadata   The item's metadata, which may influence stat modifiers
+     * @return A frozen {@link StatProfile}; use {@link StatProfile#copy()} to modify it
+     */
+    public static StatProfile itemStats(AttributeContainer attributes, ItemMetadata metadata) {
+        StatProfile memoized = attributes.memoizedStats(metadata);
+        if (memoized != null) {
+            memoHits.increment();
+            return memoized;
+        }
+
+        memoMisses.increment();
+        StatProfile stats = computeItemStats(attributes, metadata, new StatProfile()).freeze();
+        if (memoizedBytes.get() + MEMO_ENTRY_BYTES > MEMO_BUDGET_BYTES) {
+            return stats;
+        }
+
+        if (attributes.memoizeStats(metadata, stats)) {
+            memoizedBytes.addAndGet(MEMO_ENTRY_BYTES);
+            memoizedCount.incrementAndGet();
+            MEMO_CLEANER.register(attributes, ItemStatsCalculator::releaseMemo); // One release per memo
+        }
+        return stats;
+    }
+
+    /**
+     * Returns counters of the per-container stat memo: hits, misses, the number of
+     * memoized profiles and the estimated bytes they retain.
+     *
+     * @return the memo statistics
+     */
+    public static CacheStats memoStats() {
+        return new CacheStats(memoHits.sum(), memoMisses.sum(), 0, (int) memoizedCount.get(), memoizedBytes.get());
+    }
+
+    private static void releaseMemo() {
+        memoizedBytes.addAndGet(-MEMO_ENTRY_BYTES);
+        memoizedCount.decrementAndGet();
+    }
+
     /**
      * Convenience method to compute stats directly from a {@link SkyblockItem}.
      *
@@ -41,12 +117,28 @@ public final class ItemStatsCalculator {
      * @return A new {@link StatProfile} containing the calculated stats
      */
     public static StatProfile computeItemStats(AttributeContainer attributes, ItemMetadata metadata) {
-        StatProfile stats = new StatProfile();
+        return computeItemStats(attributes, metadata, new StatProfile());
+    }
+
+    /**
+     * Computes an item's stats into an existing profile, so callers that evaluate many
+     * items can reuse one scratch profile instead of allocating one per item.
+     * <p>
+     * The target is reset first; modifiers write into it through
+     * {@link StatModifierAttribute#applyModifier} without intermediate profiles.
+     *
+     * @param attributes The attribute container holding base and modifier attributes
+     * @param metadata   The item's metadata, which may influence stat modifiers
+     * @param target     A mutable profile that receives the calculated stats
+     * @return The target profile
+     */
+    public static StatProfile computeItemStats(AttributeContainer attributes, ItemMetadata metadata, StatProfile target) {
+        target.reset();
 
-        applyBaseStats(stats, attributes);
-        applyStatModifiers(stats, attributes, metadata);
+        applyBaseStats(target, attributes);
+        applyStatModifiers(target, attributes, metadata);
 
-        return stats;
+        return target;
     }
 
     /**
@@ -56,8 +148,10 @@ public final class ItemStatsCalculator {
      * @param attributes The attribute container to extract base stats from
      */
     private static void applyBaseStats(StatProfile stats, AttributeContainer attributes) {
-        attributes.get(BaseStatsAttribute.class)
-                .ifPresent(baseStats -> stats.loadFromMap(baseStats.baseStats(), StatValueType.BASE));
+        BaseStatsAttribute baseStats = attributes.getOrNull(BaseStatsAttribute.class);
+        if (baseStats != null) {
+            stats.loadFromMap(baseStats.baseStats(), StatValueType.BASE);
+        }
     }
 
     /**
@@ -72,10 +166,8 @@ public final class ItemStatsCalculator {
             AttributeContainer attributes,
             ItemMetadata metadata
     ) {
-        attributes.stream()
-                .filter(StatModifierAttribute.class::isInstance)
-                .map(StatModifierAttribute.class::cast)
-                .map(modifier -> modifier.modifierStats(attributes, metadata))
-                .forEach(stats::combineWith);
+        for (StatModifierAttribute modifier : attributes.statModifiers()) {
+            modifier.applyModifier(null, attributes, metadata, stats);
+        }
     }
 }
\ No newline at end of file
@@ -7,16 +7,36 @@ import net.unjoinable.skyblock.item.attribute.AttributeContainer;
 import net.unjoinable.skyblock.item.attribute.traits.LoreAttribute;
 import net.unjoinable.skyblock.item.enums.ItemCategory;
 import net.unjoinable.skyblock.item.enums.Rarity;
+import net.unjoinable.skyblock.player.SkyblockPlayer;
+import net.unjoinable.skyblock.utils.cache.BoundedCache;
+import net.unjoinable.skyblock.utils.cache.CacheStats;
+import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static net.kyori.adventure.text.Component.text;
 import static net.kyori.adventure.text.Component.textOfChildren;
 import static net.kyori.adventure.text.format.TextDecoration.*;
 
+/**
+ * Assembles the lore of an item from the lore lines of its {@link LoreAttribute}s.
+ * <p>
+ * Attributes are immutable and interned, so the lines of each attribute instance are
+ * cached per (attribute, metadata) pair, plus the container for attributes that
+ * {@linkplain LoreAttribute#dependsOnContainer() depend on it}, and the final lore is
+ * assembled from cached fragments. Lore generated for a specific player may differ per
+ * viewer and bypasses the cache.
+ */
 public class LoreGenerator {
+    private static final long FRAGMENT_CACHE_WEIGHT = Long.getLong("skyblock.loreCacheWeight", 65_536L);
+    private static final BoundedCache<FragmentKey, List<Component>> FRAGMENT_CACHE =
+            new BoundedCache<>(FRAGMENT_CACHE_WEIGHT, lines -> 1 + lines.size());
+    private static final Map<RarityLine, Component> RARITY_LINES = new ConcurrentHashMap<>();
+
+    private final @Nullable SkyblockPlayer player;
     private final AttributeContainer container;
     private final ItemMetadata metadata;
 
@@ -27,22 +47,38 @@ public class LoreGenerator {
      * @param metadata  the metadata from which essential info will be sourced
      */
     public LoreGenerator(AttributeContainer container, ItemMetadata metadata) {
+        this(null, container, metadata);
+    }
+
+    /**
+     * Initializes a LoreGenerator rendering lore for a specific viewer.
+     *
+     * @param player    the player viewing the item; if non-null, cached fragments are bypassed
+     * @param container the attribute container from which lore attributes will be sourced
+     * @param metadata  the metadata from which essential info will be sourced
+     */
+    public LoreGenerator(@Nullable SkyblockPlayer player, AttributeContainer container, ItemMetadata metadata) {
+        this.player = player;
         this.container = container;
         this.metadata = metadata;
     }
 
+    /**
+     * Returns hit, miss and eviction counters of the shared lore fragment cache.
+     *
+     * @return the fragment cache statistics
+     */
+    public static CacheStats fragmentCacheStats() {
+        return FRAGMENT_CACHE.stats();
+    }
+
     /**
      * Generates a combined list of lore components from all `ItemLoreAttribute` instances in the container, sorted by priority.
      *
      * @return a list of lore lines as Components, ordered by attribute priority
      */
     public List<Component> generate() {
-        List<LoreAttribute> attributes = container.stream()
-                .filter(LoreAttribute.class::isInstance)
-                .map(LoreAttribute.class::cast)
-                .sorted(Comparator.comparingInt(LoreAttribute::priority))
-                .toList();
-        return generateCombinedLore(attributes);
+        return generateCombinedLore(container.loreAttributes());
     }
 
     /**
@@ -55,15 +91,34 @@ public class LoreGenerator {
         List<Component> result = new ArrayList<>();
 
         for (LoreAttribute attribute : attributes) {
-            List<Component> attrLore = attribute.loreLines(container, metadata);
+            List<Component> attrLore = loreLines(attribute);
             if (attrLore.isEmpty()) continue;
             result.addAll(attrLore);
             result.add(Component.empty());
         }
-        result.add(formatRarity(metadata.rarity(), metadata.category(), AttributeResolver.isRarityUpgraded(container)));
+        boolean upgraded = AttributeResolver.isRarityUpgraded(container);
+        result.add(RARITY_LINES.computeIfAbsent(
+                new RarityLine(metadata.rarity(), metadata.category(), upgraded),
+                line -> formatRarity(line.rarity(), line.category(), line.upgraded())));
         return result;
     }
 
+    /**
+     * Returns the lore lines of a single attribute, from the fragment cache unless
+     * rendering for a specific player.
+     *
+     * @param attribute the attribute to render
+     * @return the attribute's lore lines
+     */
+    private List<Component> loreLines(LoreAttribute attribute) {
+        if (player != null) {
+            return attribute.loreLines(player, container, metadata);
+        }
+
+        FragmentKey key = new FragmentKey(attribute, metadata, attribute.dependsOnContainer() ? container : null);
+        return FRAGMENT_CACHE.get(key, _ -> List.copyOf(attribute.loreLines(container, metadata)));
+    }
+
     /**
      * Formats item rarity and category with color and styling.
      * Upgraded items get obfuscated borders: "§ka§r EPIC SWORD §ka§r"
@@ -86,4 +141,28 @@ public class LoreGenerator {
                 .decoration(ITALIC, false)
                 : base;
     }
+
+    /**
+     * Attributes and containers are compared by identity. Both are interned when built, so
+     * equal ones are the same instance, and lookups never walk their component lists.
+     */
+    private record FragmentKey(LoreAttribute attribute, ItemMetadata metadata, @Nullable AttributeContainer container) {
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj instanceof FragmentKey other
+                    && attribute == other.attribute
+                    && container == other.container
+                    && metadata.equals(other.metadata);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(attribute);
+            result = 31 * result + System.identityHashCode(container);
+            return 31 * result + metadata.hashCode();
+        }
+    }
+
+    private record RarityLine(Rarity rarity, ItemCategory category, boolean upgraded) {}
 }
@@ -26,19 +26,6 @@ public class IslandManager {
         this.instanceManager = MinecraftServer.getInstanceManager();
     }
 
-    /**
-     * Creates a new IslandManager with all default skyblock islands pre-registered.
-     * 
-     * @return a new IslandManager with SkyblockIsland enum values registered
-     */
-    public static IslandManager withDefaults() {
-        IslandManager manager = new IslandManager();
-        for (SkyblockIsland island : SkyblockIsland.values()) {
-            manager.registerIsland(island);
-        }
-        return manager;
-    }
-
     /**
      * Registers a new island by creating its world instance.
      * Sets up the instance with an Anvil chunk loader for the island's world data.
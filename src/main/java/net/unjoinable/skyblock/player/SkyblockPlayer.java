@@ -49,6 +49,8 @@ public class SkyblockPlayer extends Player {
 
         // Attribute
         this.getAttribute(Attribute.MAX_HEALTH).setBaseValue(40);
+        this.statSystem.addChangeListener(SPEED, (_, speed) ->
+                this.getAttribute(Attribute.MOVEMENT_SPEED).setBaseValue(speed / 1000));
         this.playerRank = PlayerRank.HYPIXEL_STAFF;
         this.island = SkyblockIsland.HUB;
     }
@@ -61,6 +63,7 @@ public class SkyblockPlayer extends Player {
      * It should be called once during the player's configuration phase.
      */
     public void init() {
+        this.statSystem.updateAllSlots(); // The inventory is only loaded after construction
         this.statSystem.resetHealthAndMana();
         this.sidebar.send();
         MinecraftServer.getSchedulerManager().scheduleTask(
@@ -78,7 +81,6 @@ public class SkyblockPlayer extends Player {
         this.statSystem.regenerateHealth();
         this.statSystem.regenerateMana();
         this.sidebar.update();
-        this.getAttribute(Attribute.MOVEMENT_SPEED).setBaseValue(getStatSystem().getStat(SPEED)/1000);
     }
 
     @Override
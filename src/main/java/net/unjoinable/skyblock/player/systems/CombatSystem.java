@@ -3,12 +3,16 @@ package net.unjoinable.skyblock.player.systems;
 import net.kyori.adventure.sound.Sound;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.sound.SoundEvent;
+import net.unjoinable.skyblock.combat.damage.AoeDamageBatch;
 import net.unjoinable.skyblock.combat.damage.DamageCalculator;
 import net.unjoinable.skyblock.combat.damage.SkyblockDamage;
+import net.unjoinable.skyblock.entity.SkyblockEntity;
 import net.unjoinable.skyblock.item.ability.traits.MagicAbility;
 import net.unjoinable.skyblock.player.PlayerSystem;
 import net.unjoinable.skyblock.player.SkyblockPlayer;
 
+import java.util.List;
+
 /**
  * Manages combat mechanics for a Skyblock player.
  *
@@ -57,6 +61,17 @@ public class CombatSystem implements PlayerSystem {
         return this.damageCalc.calcAbilityDamage(target, ability);
     }
 
+    /**
+     * Calculates magic damage against many targets at once, e.g. for area-of-effect abilities.
+     *
+     * @param targets the entities being attacked
+     * @param ability the magic ability being used
+     * @return the per-target damage, ready to be applied
+     */
+    public AoeDamageBatch magicAttack(List<SkyblockEntity> targets, MagicAbility ability) {
+        return this.damageCalc.calcAbilityDamage(targets, ability);
+    }
+
     public void playFerocitySound() {
         player.playSound(Sound.sound(SoundEvent.ITEM_FLINTANDSTEEL_USE, Sound.Source.PLAYER, 0.5f, 1f), player);
         player.playSound(Sound.sound(SoundEvent.ENTITY_ZOMBIE_BREAK_WOODEN_DOOR, Sound.Source.PLAYER, 0.5f, 1f), player);
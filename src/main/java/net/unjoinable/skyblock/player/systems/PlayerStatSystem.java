@@ -7,19 +7,42 @@ import net.unjoinable.skyblock.player.PlayerSystem;
 import net.unjoinable.skyblock.player.SkyblockPlayer;
 import net.unjoinable.skyblock.player.ui.inventory.ItemSlot;
 import net.unjoinable.skyblock.player.ui.inventory.VanillaItemSlot;
+import net.unjoinable.skyblock.combat.statistic.StatChangeListener;
 import net.unjoinable.skyblock.combat.statistic.StatProfile;
 import net.unjoinable.skyblock.combat.statistic.Statistic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Handles player statistics by calculating and caching stats
  * based on equipped items and base values.
+ * <p>
+ * Final stats are maintained incrementally: when a slot changes, only that slot's old
+ * contribution is swapped for the new one. A full recompute still happens when a
+ * contribution cannot be reversed and periodically to discard floating point drift.
+ * Setting {@code -Dskyblock.verifyStats=true} compares every incremental update against
+ * a full recompute and logs any mismatch.
+ * <p>
+ * Every change to the final stats is published right away: statistics whose value
+ * changed are reported to the {@link StatChangeListener}s registered for them, so
+ * consumers such as movement speed or the action bar never need to poll.
  */
 public class PlayerStatSystem implements PlayerSystem {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerStatSystem.class);
     private static final double BASE_HEALTH_REGEN_CONST = 1.5;
     private static final double BASE_MANA_REGEN_CONST = 0.02;
+    private static final boolean VERIFY_INCREMENTAL = Boolean.getBoolean("skyblock.verifyStats");
+    private static final double VERIFY_EPSILON = 1e-6;
+    private static final int MAX_INCREMENTAL_UPDATES = 1024;
+    private static final Statistic[] STATS = Statistic.values();
 
     private final SkyblockPlayer player;
     private final ItemProcessor itemProcessor;
@@ -27,8 +50,15 @@ public class PlayerStatSystem implements PlayerSystem {
     private final StatProfile baseStats;
     private final Map<ItemSlot, StatProfile> cachedItemStats;
     private final StatProfile cachedFinalStats;
+    private final StatProfile rebuildBuffer;
+    private final Map<Statistic, List<StatChangeListener>> listeners;
+    private final BitSet changedStats;
 
     private boolean isDirty;
+    private int incrementalUpdates;
+
+    private double healthRegenRate;
+    private double manaRegenRate;
 
     private double currentHealth;
     private double currentMana;
@@ -47,41 +77,171 @@ public class PlayerStatSystem implements PlayerSystem {
         this.baseStats = StatProfile.createDefaultProfile();
         this.cachedItemStats = new HashMap<>();
         this.cachedFinalStats = new StatProfile();
+        this.rebuildBuffer = new StatProfile();
+        this.listeners = new EnumMap<>(Statistic.class);
+        this.changedStats = new BitSet(STATS.length);
         this.isDirty = true;
 
-        for (VanillaItemSlot slot : VanillaItemSlot.values()) {
-            updateSlot(slot);
-        }
+        updateAllSlots();
+    }
+
+    /**
+     * Registers a listener notified whenever the final value of the statistic changes.
+     * <p>
+     * The listener is invoked once immediately with the current value, so callers do
+     * not need to initialize their state separately.
+     *
+     * @param stat     the statistic to observe
+     * @param listener the listener to notify
+     */
+    public void addChangeListener(Statistic stat, StatChangeListener listener) {
+        this.listeners.computeIfAbsent(stat, _ -> new ArrayList<>()).add(listener);
+        listener.onStatChange(stat, getStat(stat));
     }
 
     /**
      * Updates the cached stats for the given item slot.
      * <p>
-     * This method recalculates the stats for the item in the specified slot
-     * and marks the system as dirty, requiring a recalculation of final stats.
+     * This method recalculates the stats for the item in the specified slot and
+     * replaces the slot's previous contribution to the final stats with the new one.
+     * If that is not possible, the final stats are recomputed instead. Listeners of
+     * every statistic that changed are notified before this method returns.
      *
      * @param slot the item slot to update
-     * @throws IllegalStateException if the system has not been initialized
      */
     public void updateSlot(ItemSlot slot) {
-        SkyblockItem item = slot.getItem(this.player, this.itemProcessor);
-        StatProfile itemStats = ItemStatsCalculator.computeItemStats(item);
-        this.cachedItemStats.put(slot, itemStats);
-        this.isDirty = true;
+        boolean incremental = applySlot(slot);
+        publishChanges();
+
+        if (incremental && VERIFY_INCREMENTAL) {
+            verifyFinalStats(slot);
+        }
     }
 
     /**
-     * Returns the player's final stats, recalculating if dirty.
+     * Updates the cached stats of several slots at once, e.g. after an item swap or a
+     * full inventory change.
+     * <p>
+     * Every slot is applied before the final stats are brought up to date, so listeners
+     * are notified at most once per statistic for the whole batch.
+     *
+     * @param slots the item slots to update
+     */
+    public void updateSlots(Collection<? extends ItemSlot> slots) {
+        boolean incremental = true;
+        for (ItemSlot slot : slots) {
+            incremental &= applySlot(slot);
+        }
+        publishChanges();
+
+        if (incremental && VERIFY_INCREMENTAL) {
+            verifyFinalStats(slots);
+        }
+    }
+
+    /**
+     * Updates the cached stats of every vanilla equipment slot, e.g. once the player's
+     * inventory has been loaded. The whole inventory is decoded in one batch.
+     */
+    public void updateAllSlots() {
+        VanillaItemSlot[] slots = VanillaItemSlot.values();
+        List<SkyblockItem> inventory = this.itemProcessor.fromInventory(this.player.getInventory());
+
+        boolean incremental = true;
+        for (VanillaItemSlot slot : slots) {
+            incremental &= applySlot(slot, inventory.get(slot.getInventorySlot(this.player)));
+        }
+        publishChanges();
+
+        if (incremental && VERIFY_INCREMENTAL) {
+            verifyFinalStats(List.of(slots));
+        }
+    }
+
+    /**
+     * Recomputes the stats of the item in the slot and folds the difference into the
+     * final stats without publishing it.
+     *
+     * @param slot the item slot to update
+     * @return true if the change was applied incrementally, false if a full recompute is pending
+     */
+    private boolean applySlot(ItemSlot slot) {
+        return applySlot(slot, slot.getItem(this.player, this.itemProcessor));
+    }
+
+    /**
+     * Folds the stats of an already decoded item into the final stats without publishing them.
+     *
+     * @param slot the item slot to update
+     * @param item the item currently in the slot
+     * @return true if the change was applied incrementally, false if a full recompute is pending
+     */
+    private boolean applySlot(ItemSlot slot, SkyblockItem item) {
+        StatProfile itemStats = ItemStatsCalculator.itemStats(item); // Shared and frozen
+        StatProfile previous = this.cachedItemStats.put(slot, itemStats);
+
+        if (this.isDirty) {
+            return false; // A full recompute is pending anyway
+        }
+
+        if (previous == null) {
+            this.cachedFinalStats.combineWith(itemStats);
+        } else if (!this.cachedFinalStats.replaceContribution(previous, itemStats)) {
+            this.isDirty = true;
+            return false;
+        }
+
+        if (++this.incrementalUpdates >= MAX_INCREMENTAL_UPDATES) {
+            this.isDirty = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Brings the final stats up to date and notifies the listeners of every statistic
+     * whose value changed. Derived values such as regeneration rates are refreshed first.
+     */
+    private void publishChanges() {
+        if (this.isDirty) {
+            recalculateFinalStats();
+        }
+
+        this.changedStats.clear();
+        this.cachedFinalStats.recalculateAll(this.changedStats);
+        if (this.changedStats.isEmpty()) {
+            return;
+        }
+
+        if (this.changedStats.get(Statistic.HEALTH.ordinal())
+                || this.changedStats.get(Statistic.HEALTH_REGEN.ordinal())
+                || this.changedStats.get(Statistic.INTELLIGENCE.ordinal())) {
+            updateRegenRates();
+        }
+
+        for (int id = this.changedStats.nextSetBit(0); id >= 0; id = this.changedStats.nextSetBit(id + 1)) {
+            List<StatChangeListener> statListeners = this.listeners.get(STATS[id]);
+            if (statListeners == null) continue;
+
+            double value = this.cachedFinalStats.get(STATS[id]);
+            for (StatChangeListener listener : statListeners) {
+                listener.onStatChange(STATS[id], value);
+            }
+        }
+    }
+
+    /**
+     * Returns the player's final stats.
      * <p>
      * This method combines base stats with all equipped item stats to provide
-     * the player's current total statistics. The result is cached and only
-     * recalculated when the system is marked as dirty.
+     * the player's current total statistics. The result is kept up to date
+     * whenever a slot is updated.
      *
      * @return combined base + item stats
      */
     public StatProfile getFinalStats() {
         if (this.isDirty) {
-            this.recalculateFinalStats();
+            this.publishChanges();
         }
         return this.cachedFinalStats;
     }
@@ -101,19 +261,57 @@ public class PlayerStatSystem implements PlayerSystem {
     /**
      * Recalculates the final stats by combining base and item stats.
      * <p>
-     * This method resets the cached final stats and combines them with
-     * base stats and all item stats from equipped items. After recalculation,
-     * the system is marked as clean (not dirty).
+     * This method rebuilds the final stats from base stats and all item stats
+     * from equipped items, marking only statistics that differ as dirty. After
+     * recalculation, the system is marked as clean (not dirty).
      */
     private void recalculateFinalStats() {
-        this.cachedFinalStats.reset();
-        this.cachedFinalStats.combineWith(this.baseStats);
+        combineAll(this.rebuildBuffer);
+        this.cachedFinalStats.setModifiersFrom(this.rebuildBuffer);
+        this.isDirty = false;
+        this.incrementalUpdates = 0;
+    }
+
+    /**
+     * Resets the target and combines base stats and all item stats into it.
+     *
+     * @param target the profile to rebuild
+     */
+    private void combineAll(StatProfile target) {
+        target.reset();
+        target.combineWith(this.baseStats);
 
         for (StatProfile itemStat : this.cachedItemStats.values()) {
-            this.cachedFinalStats.combineWith(itemStat);
+            target.combineWith(itemStat);
         }
+    }
 
-        this.isDirty = false;
+    /**
+     * Compares the incrementally maintained final stats against a full recompute,
+     * logging every statistic that diverged and falling back to the recomputed values.
+     *
+     * @param updated the slot or slots whose update is being verified, for logging
+     */
+    private void verifyFinalStats(Object updated) {
+        StatProfile expected = new StatProfile();
+        combineAll(expected);
+
+        boolean consistent = true;
+        for (Statistic stat : Statistic.values()) {
+            double actual = this.cachedFinalStats.get(stat);
+            double wanted = expected.get(stat);
+
+            if (Math.abs(actual - wanted) > VERIFY_EPSILON * Math.max(1.0, Math.abs(wanted))) {
+                LOGGER.warn("Incremental {} of {} diverged after updating {}: {} != {}",
+                        stat, player.getUsername(), updated, actual, wanted);
+                consistent = false;
+            }
+        }
+
+        if (!consistent) {
+            this.isDirty = true;
+            publishChanges();
+        }
     }
 
     /**
@@ -260,10 +458,7 @@ public class PlayerStatSystem implements PlayerSystem {
      * @return the amount of health to regenerate
      */
     public double calculateHealthRegeneration() {
-        double healthRegenStat = getStat(Statistic.HEALTH_REGEN);
-        double maxHealth = getMaxHealth();
-
-        return (BASE_HEALTH_REGEN_CONST + (maxHealth / 100.0)) * (healthRegenStat / 100.0);
+        return healthRegenRate;
     }
 
     /**
@@ -272,7 +467,19 @@ public class PlayerStatSystem implements PlayerSystem {
      * @return the amount of mana to regenerate
      */
     public double calculateManaRegeneration() {
-        return getIntelligence() * BASE_MANA_REGEN_CONST;
+        return manaRegenRate;
+    }
+
+    /**
+     * Recomputes the cached regeneration rates from the current final stats.
+     */
+    private void updateRegenRates() {
+        double healthRegenStat = this.cachedFinalStats.get(Statistic.HEALTH_REGEN);
+        double maxHealth = this.cachedFinalStats.get(Statistic.HEALTH);
+        double intelligence = this.cachedFinalStats.get(Statistic.INTELLIGENCE);
+
+        this.healthRegenRate = (BASE_HEALTH_REGEN_CONST + (maxHealth / 100.0)) * (healthRegenStat / 100.0);
+        this.manaRegenRate = intelligence * BASE_MANA_REGEN_CONST;
     }
 
     /**
@@ -25,17 +25,27 @@ public class PlayerActionBar extends ActionBar {
     private static final String MANA_SYMBOL = Statistic.INTELLIGENCE.symbol();
 
 
+    private double shownHealth = Double.NaN;
+    private double shownMaxHealth = Double.NaN;
+    private double shownMana = Double.NaN;
+    private double shownMaxMana = Double.NaN;
+
     public PlayerActionBar(SkyblockPlayer player) {
         this.player = player;
         this.statSystem = player.getStatSystem();
-        updateDefaultDisplays(); // init the system
+
+        // Pushed on change; the listeners also initialize each section
+        statSystem.addChangeListener(Statistic.HEALTH, (_, _) -> updateHealthDisplay());
+        statSystem.addChangeListener(Statistic.DEFENSE, (_, _) -> updateDefenseDisplay());
+        statSystem.addChangeListener(Statistic.INTELLIGENCE, (_, _) -> updateManaDisplay());
     }
 
     /**
      * Updates the default displays for each section of the action bar.
      * <p>
      * This method formats health, defense, and mana information according to
-     * the current player statistics.
+     * the current player statistics. Health and mana are only reformatted if
+     * their current or maximum values changed since the last update.
      */
     public void updateDefaultDisplays() {
         updateHealthDisplay();
@@ -50,6 +60,10 @@ public class PlayerActionBar extends ActionBar {
         double currentHealth = statSystem.getCurrentHealth();
         double maxHealth = statSystem.getMaxHealth();
 
+        if (currentHealth == shownHealth && maxHealth == shownMaxHealth) return;
+        this.shownHealth = currentHealth;
+        this.shownMaxHealth = maxHealth;
+
         Component healthDisplay = Component.text(
                 statsFormat.format(currentHealth) + "/" +
                         statsFormat.format(maxHealth) + HEALTH_SYMBOL,
@@ -80,6 +94,10 @@ public class PlayerActionBar extends ActionBar {
         double currentMana = statSystem.getCurrentMana();
         double maxMana = statSystem.getIntelligence();
 
+        if (currentMana == shownMana && maxMana == shownMaxMana) return;
+        this.shownMana = currentMana;
+        this.shownMaxMana = maxMana;
+
         Component manaDisplay = Component.text(
                 statsFormat.format(currentMana) + "/" +
                         statsFormat.format(maxMana) + MANA_SYMBOL + " Mana",
@@ -99,9 +117,13 @@ public class PlayerActionBar extends ActionBar {
     /**
      * Updates the action bar
      * Prefer 5 tick in between
+     * <p>
+     * Defense is pushed by the stat system when it changes, so only the sections
+     * depending on current health and mana are refreshed here.
      */
     public void update() {
-        updateDefaultDisplays();
+        updateHealthDisplay();
+        updateManaDisplay();
         sendActionBar();
     }
 }
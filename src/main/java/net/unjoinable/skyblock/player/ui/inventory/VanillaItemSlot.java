@@ -1,6 +1,8 @@
 package net.unjoinable.skyblock.player.ui.inventory;
 
 import net.minestom.server.entity.EquipmentSlot;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.utils.inventory.PlayerInventoryUtils;
 import net.unjoinable.skyblock.item.SkyblockItem;
 import net.unjoinable.skyblock.item.service.ItemProcessor;
 import net.unjoinable.skyblock.player.SkyblockPlayer;
@@ -9,30 +11,24 @@ import net.unjoinable.skyblock.player.SkyblockPlayer;
  * Standard equipment slots based on vanilla Minecraft
  */
 public enum VanillaItemSlot implements ItemSlot {
-    HELMET("helmet", (player, processor) ->
-            processor.fromItemStack(player.getInventory().getItemStack(EquipmentSlot.HELMET.armorSlot()))),
+    HELMET("helmet", _ -> EquipmentSlot.HELMET.armorSlot()),
 
-    CHESTPLATE("chestplate", (player, processor) ->
-            processor.fromItemStack(player.getInventory().getItemStack(EquipmentSlot.CHESTPLATE.armorSlot()))),
+    CHESTPLATE("chestplate", _ -> EquipmentSlot.CHESTPLATE.armorSlot()),
 
-    LEGGINGS("leggings", (player, processor) ->
-            processor.fromItemStack(player.getInventory().getItemStack(EquipmentSlot.LEGGINGS.armorSlot()))),
+    LEGGINGS("leggings", _ -> EquipmentSlot.LEGGINGS.armorSlot()),
 
-    BOOTS("boots", (player, processor) ->
-            processor.fromItemStack(player.getInventory().getItemStack(EquipmentSlot.BOOTS.armorSlot()))),
+    BOOTS("boots", _ -> EquipmentSlot.BOOTS.armorSlot()),
 
-    MAIN_HAND("main_hand", (player, processor) ->
-            processor.fromItemStack(player.getItemInMainHand())),
+    MAIN_HAND("main_hand", SkyblockPlayer::getHeldSlot),
 
-    OFF_HAND("off_hand", (player, processor) ->
-            processor.fromItemStack(player.getItemInOffHand()));
+    OFF_HAND("off_hand", _ -> PlayerInventoryUtils.OFFHAND_SLOT);
 
     private final String name;
-    private final SlotItemGetter itemGetter;
+    private final SlotIndexGetter indexGetter;
 
-    VanillaItemSlot(String name, SlotItemGetter itemGetter) {
+    VanillaItemSlot(String name, SlotIndexGetter indexGetter) {
         this.name = name;
-        this.itemGetter = itemGetter;
+        this.indexGetter = indexGetter;
     }
 
     @Override
@@ -42,14 +38,34 @@ public enum VanillaItemSlot implements ItemSlot {
 
     @Override
     public SkyblockItem getItem(SkyblockPlayer player, ItemProcessor processor) {
-        return itemGetter.getItem(player, processor);
+        return processor.fromItemStack(getItemStack(player));
     }
 
     /**
-     * Functional interface for retrieving items from slots
+     * Retrieves the raw stack in this slot for the given player
+     *
+     * @param player The player
+     * @return The ItemStack in this slot
+     */
+    public ItemStack getItemStack(SkyblockPlayer player) {
+        return player.getInventory().getItemStack(getInventorySlot(player));
+    }
+
+    /**
+     * Retrieves the index of this slot in the player's inventory
+     *
+     * @param player The player
+     * @return The inventory slot index
+     */
+    public int getInventorySlot(SkyblockPlayer player) {
+        return indexGetter.getInventorySlot(player);
+    }
+
+    /**
+     * Functional interface for resolving the inventory index of slots
      */
     @FunctionalInterface
-    private interface SlotItemGetter {
-        SkyblockItem getItem(SkyblockPlayer player, ItemProcessor processor);
+    private interface SlotIndexGetter {
+        int getInventorySlot(SkyblockPlayer player);
     }
 }
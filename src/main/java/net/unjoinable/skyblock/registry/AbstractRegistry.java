@@ -1,6 +1,9 @@
 package net.unjoinable.skyblock.registry;
 
+import org.jspecify.annotations.Nullable;
+
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstract implementation of Registry that provides common functionality.
@@ -11,6 +14,8 @@ import java.util.*;
 public abstract class AbstractRegistry<K, V> implements Registry<K, V> {
 
     protected final Map<K, V> entries;
+    private volatile @Nullable ClassIndex<V> classIndex;
+    private final AtomicLong version = new AtomicLong();
 
     /**
      * Construct a new AbstractRegistry with the provided map implementation.
@@ -21,54 +26,108 @@ public abstract class AbstractRegistry<K, V> implements Registry<K, V> {
         this.entries = entries;
     }
 
+    /**
+     * Returns the map that read operations are served from.
+     * <p>
+     * Subclasses that publish their entries differently, such as {@link net.unjoinable.skyblock.registry.impl.SnapshotRegistry},
+     * override this to return their current view.
+     *
+     * @return the current registry entries
+     */
+    protected Map<K, V> entries() {
+        return entries;
+    }
+
+    /**
+     * Discards the class index and bumps the {@link #version()} after the entries were
+     * modified. Subclasses writing to {@link #entries} or to mappings of their own must
+     * call this afterwards.
+     */
+    protected void invalidateIndexes() {
+        this.classIndex = null;
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns a counter that changes on every modification of the registry. Structures
+     * derived from the entries can remember the version they were built from and rebuild
+     * once it changes. Read the version before reading the entries, so a concurrent write
+     * is never missed.
+     *
+     * @return the current modification version
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Returns the class index of the current entries, building it if necessary.
+     *
+     * @return the up-to-date class index
+     */
+    protected ClassIndex<V> classIndex() {
+        Map<K, V> current = entries();
+        ClassIndex<V> index = this.classIndex;
+        if (index == null || !index.isIndexOf(current)) {
+            index = ClassIndex.build(current);
+            this.classIndex = index;
+        }
+        return index;
+    }
+
     @Override
     public Registry<K, V> register(K key, V value) {
         entries.put(key, value);
+        invalidateIndexes();
         return this;
     }
 
     @Override
     public Registry<K, V> registerAll(Map<K, V> entries) {
         this.entries.putAll(entries);
+        invalidateIndexes();
         return this;
     }
 
     @Override
     public Optional<V> get(K key) {
-        return Optional.ofNullable(entries.get(key));
+        return Optional.ofNullable(entries().get(key));
     }
 
     @Override
     public boolean contains(K key) {
-        return entries.containsKey(key);
+        return entries().containsKey(key);
     }
 
     @Override
     public Optional<V> remove(K key) {
-        return Optional.ofNullable(entries.remove(key));
+        V removed = entries.remove(key);
+        invalidateIndexes();
+        return Optional.ofNullable(removed);
     }
 
     @Override
     public Set<K> keys() {
-        return Collections.unmodifiableSet(entries.keySet());
+        return Collections.unmodifiableSet(entries().keySet());
     }
 
     @Override
     public Set<V> values() {
-        return Set.copyOf(entries.values());
+        return Set.copyOf(entries().values());
     }
 
     @Override
     public void clear() {
         entries.clear();
+        invalidateIndexes();
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return entries().size();
     }
 
-    // Class look up methods
+    // Class look up methods, served from a class index that is rebuilt lazily after writes
 
     /**
      * Find the first value that is an instance of the specified class.
@@ -78,10 +137,7 @@ public abstract class AbstractRegistry<K, V> implements Registry<K, V> {
      * @return An Optional containing the first matching value, or empty if none found
      */
     public <T> Optional<T> findFirstByClass(Class<T> clazz) {
-        return entries.values().stream()
-                .filter(clazz::isInstance)
-                .map(clazz::cast)
-                .findFirst();
+        return classIndex().findFirst(clazz);
     }
 
     /**
@@ -89,13 +145,10 @@ public abstract class AbstractRegistry<K, V> implements Registry<K, V> {
      *
      * @param clazz The class to look for
      * @param <T>   The type of the class
-     * @return A List containing all matching values
+     * @return An immutable List containing all matching values
      */
     public <T> List<T> findAllByClass(Class<T> clazz) {
-        return entries.values().stream()
-                .filter(clazz::isInstance)
-                .map(clazz::cast)
-                .toList();
+        return classIndex().findAll(clazz);
     }
 
     /**
@@ -105,8 +158,6 @@ public abstract class AbstractRegistry<K, V> implements Registry<K, V> {
      * @return The count of matching values
      */
     public int countByClass(Class<?> clazz) {
-        return (int) entries.values().stream()
-                .filter(clazz::isInstance)
-                .count();
+        return classIndex().count(clazz);
     }
 }
\ No newline at end of file
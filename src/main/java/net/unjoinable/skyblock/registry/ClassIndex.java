@@ -0,0 +1,123 @@
+package net.unjoinable.skyblock.registry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An index from every class and interface in the hierarchy of the registry values to
+ * the values that are instances of it.
+ * <p>
+ * The index is built once from a snapshot of the registry entries. Class lookups then
+ * return cached immutable lists instead of scanning every entry. An index never changes
+ * after it is built; registries build a new one after they are modified.
+ *
+ * @param <V> The type of values stored in the registry
+ */
+public final class ClassIndex<V> {
+    private final Map<?, V> source;
+    private final Map<Class<?>, List<V>> byType;
+
+    private ClassIndex(Map<?, V> source, Map<Class<?>, List<V>> byType) {
+        this.source = source;
+        this.byType = byType;
+    }
+
+    /**
+     * Builds an index over the values of the given entries.
+     *
+     * @param entries The registry entries to index
+     * @param <V>     The type of values stored in the registry
+     * @return A new index
+     */
+    public static <V> ClassIndex<V> build(Map<?, V> entries) {
+        Map<Class<?>, Set<Class<?>>> hierarchies = new HashMap<>();
+        Map<Class<?>, List<V>> byType = new HashMap<>();
+
+        for (V value : entries.values()) {
+            if (value == null) continue;
+
+            Set<Class<?>> types = hierarchies.computeIfAbsent(value.getClass(), ClassIndex::hierarchyOf);
+            for (Class<?> type : types) {
+                byType.computeIfAbsent(type, _ -> new ArrayList<>()).add(value);
+            }
+        }
+
+        Map<Class<?>, List<V>> frozen = new HashMap<>(byType.size());
+        byType.forEach((type, values) -> frozen.put(type, List.copyOf(values)));
+        return new ClassIndex<>(entries, Map.copyOf(frozen));
+    }
+
+    /**
+     * Collects a class together with all of its superclasses and implemented interfaces.
+     */
+    private static Set<Class<?>> hierarchyOf(Class<?> type) {
+        Set<Class<?>> types = new HashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.push(type);
+
+        while (!pending.isEmpty()) {
+            Class<?> current = pending.pop();
+            if (!types.add(current)) continue;
+
+            Class<?> superclass = current.getSuperclass();
+            if (superclass != null) {
+                pending.push(superclass);
+            }
+            for (Class<?> implemented : current.getInterfaces()) {
+                pending.push(implemented);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Checks whether this index was built from the given entries.
+     *
+     * @param entries The registry entries
+     * @return true if the index was built from exactly this map instance
+     */
+    public boolean isIndexOf(Map<?, ?> entries) {
+        return this.source == entries;
+    }
+
+    /**
+     * Returns the first indexed value that is an instance of the specified class.
+     *
+     * @param clazz The class to look for
+     * @param <T>   The type of the class
+     * @return An Optional containing the first matching value, or empty if none found
+     */
+    public <T> Optional<T> findFirst(Class<T> clazz) {
+        List<T> matches = findAll(clazz);
+        return matches.isEmpty() ? Optional.empty() : Optional.of(matches.getFirst());
+    }
+
+    /**
+     * Returns all indexed values that are instances of the specified class.
+     *
+     * @param clazz The class to look for
+     * @param <T>   The type of the class
+     * @return An immutable list of all matching values
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> findAll(Class<T> clazz) {
+        return (List<T>) byType.getOrDefault(clazz, List.of());
+    }
+
+    /**
+     * Counts the indexed values that are instances of the specified class.
+     *
+     * @param clazz The class to count
+     * @return The count of matching values
+     */
+    public int count(Class<?> clazz) {
+        return byType.getOrDefault(clazz, List.of()).size();
+    }
+}
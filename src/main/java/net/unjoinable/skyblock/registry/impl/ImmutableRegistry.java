@@ -1,5 +1,6 @@
 package net.unjoinable.skyblock.registry.impl;
 
+import net.unjoinable.skyblock.registry.AbstractRegistry;
 import net.unjoinable.skyblock.registry.Registry;
 import org.intellij.lang.annotations.Subst;
 
@@ -9,13 +10,16 @@ import java.util.*;
  * An immutable registry implementation that gets populated during construction
  * and cannot be modified afterward. Any attempts to modify the registry will
  * result in an UnsupportedOperationException.
+ * <p>
+ * Class lookups are inherited from {@link AbstractRegistry}; since the entries never
+ * change, its class index is built once on first use.
  *
  * @param <K> The type of keys used in this registry
  * @param <V> The type of values stored in this registry
  */
-public class ImmutableRegistry<K, V> implements Registry<K, V> {
+public class ImmutableRegistry<K, V> extends AbstractRegistry<K, V> {
 
-    private final Map<K, V> entries;
+    private final Set<V> values;
 
     /**
      * Constructs a new ImmutableRegistry with the provided entries.
@@ -24,7 +28,8 @@ public class ImmutableRegistry<K, V> implements Registry<K, V> {
      */
     public ImmutableRegistry(Map<K, V> entries) {
         // Create a defensive copy to ensure true immutability
-        this.entries = Map.copyOf(entries);
+        super(Map.copyOf(entries));
+        this.values = Set.copyOf(this.entries.values());
     }
 
     /**
@@ -33,9 +38,14 @@ public class ImmutableRegistry<K, V> implements Registry<K, V> {
      * @param registry The registry to copy entries from
      */
     public ImmutableRegistry(Registry<K, V> registry) {
+        super(copyEntries(registry));
+        this.values = Set.copyOf(this.entries.values());
+    }
+
+    private static <K, V> Map<K, V> copyEntries(Registry<K, V> registry) {
         Map<K, V> tempMap = new HashMap<>();
         registry.keys().forEach(key -> registry.get(key).ifPresent(value -> tempMap.put(key, value)));
-        this.entries = Collections.unmodifiableMap(tempMap);
+        return Collections.unmodifiableMap(tempMap);
     }
 
     @Override
@@ -48,16 +58,6 @@ public class ImmutableRegistry<K, V> implements Registry<K, V> {
         throw new UnsupportedOperationException("Cannot modify an ImmutableRegistry");
     }
 
-    @Override
-    public Optional<V> get(K key) {
-        return Optional.ofNullable(entries.get(key));
-    }
-
-    @Override
-    public boolean contains(K key) {
-        return entries.containsKey(key);
-    }
-
     @Override
     public Optional<V> remove(K key) {
         throw new UnsupportedOperationException("Cannot modify an ImmutableRegistry");
@@ -71,16 +71,11 @@ public class ImmutableRegistry<K, V> implements Registry<K, V> {
     @Subst("")
     @Override
     public Set<V> values() {
-        return Set.copyOf(entries.values());
+        return values; // Computed once, the entries never change
     }
 
     @Override
     public void clear() {
         throw new UnsupportedOperationException("Cannot modify an ImmutableRegistry");
     }
-
-    @Override
-    public int size() {
-        return entries.size();
-    }
-}
\ No newline at end of file
+}
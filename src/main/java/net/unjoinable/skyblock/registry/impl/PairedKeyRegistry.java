@@ -1,38 +1,41 @@
 package net.unjoinable.skyblock.registry.impl;
 
-import net.unjoinable.skyblock.registry.AbstractRegistry;
-
 import java.util.*;
 
 /**
  * A registry implementation that allows retrieval of objects using two keys.
  * Objects are stored with a primary key but can also be retrieved using a secondary key.
+ * <p>
+ * Both key mappings are copy-on-write snapshots, so lookups by either key are lock-free
+ * and safe while entries are being registered from another thread. Writes publish the
+ * primary entries before the secondary mapping and remove them in reverse order, so a
+ * secondary key never resolves to a missing primary key.
  *
  * @param <K1> The type of the primary key
  * @param <K2> The type of the secondary key
  * @param <V>  The type of values stored in this registry
  */
-public class PairedKeyRegistry<K1, K2, V> extends AbstractRegistry<K1, V> {
+public class PairedKeyRegistry<K1, K2, V> extends SnapshotRegistry<K1, V> {
 
-    private final Map<K2, K1> secondaryToPrimary;
+    private volatile Map<K2, K1> secondaryToPrimary;
 
     /**
-     * Constructs a new PairedKeyRegistry using HashMap for storage.
+     * Constructs a new, empty PairedKeyRegistry.
      */
     public PairedKeyRegistry() {
-        super(new HashMap<>());
-        this.secondaryToPrimary = new HashMap<>();
+        super();
+        this.secondaryToPrimary = Map.of();
     }
 
     /**
-     * Constructs a new PairedKeyRegistry with custom map implementations.
+     * Constructs a new PairedKeyRegistry populated with the given mappings.
      *
-     * @param primaryMap   The map to use for primary key storage
-     * @param secondaryMap The map to use for secondary key mapping
+     * @param primaryMap   The initial primary key entries
+     * @param secondaryMap The initial secondary to primary key mappings
      */
     public PairedKeyRegistry(Map<K1, V> primaryMap, Map<K2, K1> secondaryMap) {
         super(primaryMap);
-        this.secondaryToPrimary = secondaryMap;
+        this.secondaryToPrimary = Map.copyOf(secondaryMap);
     }
 
     /**
@@ -43,9 +46,12 @@ public class PairedKeyRegistry<K1, K2, V> extends AbstractRegistry<K1, V> {
      * @param value        The value to register
      * @return The registry instance for chaining
      */
-    public PairedKeyRegistry<K1, K2, V> register(K1 primaryKey, K2 secondaryKey, V value) {
-        entries.put(primaryKey, value);
-        secondaryToPrimary.put(secondaryKey, primaryKey);
+    public synchronized PairedKeyRegistry<K1, K2, V> register(K1 primaryKey, K2 secondaryKey, V value) {
+        register(primaryKey, value);
+
+        Map<K2, K1> next = new HashMap<>(secondaryToPrimary);
+        next.put(secondaryKey, primaryKey);
+        publishSecondary(next);
         return this;
     }
 
@@ -55,11 +61,16 @@ public class PairedKeyRegistry<K1, K2, V> extends AbstractRegistry<K1, V> {
      * @param pairedEntries A map where each entry contains primary key -> (secondary key, value)
      * @return The registry instance for chaining
      */
-    public PairedKeyRegistry<K1, K2, V> registerAllPaired(Map<K1, PairedEntry<K2, V>> pairedEntries) {
+    public synchronized PairedKeyRegistry<K1, K2, V> registerAllPaired(Map<K1, PairedEntry<K2, V>> pairedEntries) {
+        Map<K1, V> primary = new HashMap<>();
+        Map<K2, K1> next = new HashMap<>(secondaryToPrimary);
         pairedEntries.forEach((primaryKey, pairedEntry) -> {
-            entries.put(primaryKey, pairedEntry.value);
-            secondaryToPrimary.put(pairedEntry.secondaryKey, primaryKey);
+            primary.put(primaryKey, pairedEntry.value);
+            next.put(pairedEntry.secondaryKey, primaryKey);
         });
+
+        registerAll(primary);
+        publishSecondary(next);
         return this;
     }
 
@@ -118,13 +129,12 @@ public class PairedKeyRegistry<K1, K2, V> extends AbstractRegistry<K1, V> {
      * @return An Optional containing the removed value if found, or empty if not found
      */
     @Override
-    public Optional<V> remove(K1 primaryKey) {
-        Optional<V> removedValue = super.remove(primaryKey);
-        if (removedValue.isPresent()) {
-            // Remove the secondary key mapping
-            secondaryToPrimary.entrySet().removeIf(entry -> Objects.equals(entry.getValue(), primaryKey));
+    public synchronized Optional<V> remove(K1 primaryKey) {
+        Map<K2, K1> next = new HashMap<>(secondaryToPrimary);
+        if (next.values().removeIf(mapped -> Objects.equals(mapped, primaryKey))) {
+            publishSecondary(next);
         }
-        return removedValue;
+        return super.remove(primaryKey);
     }
 
     /**
@@ -134,12 +144,16 @@ public class PairedKeyRegistry<K1, K2, V> extends AbstractRegistry<K1, V> {
      * @param secondaryKey The secondary key to remove
      * @return An Optional containing the removed value if found, or empty if not found
      */
-    public Optional<V> removeBySecondaryKey(K2 secondaryKey) {
-        K1 primaryKey = secondaryToPrimary.remove(secondaryKey);
+    public synchronized Optional<V> removeBySecondaryKey(K2 secondaryKey) {
+        K1 primaryKey = secondaryToPrimary.get(secondaryKey);
         if (primaryKey == null) {
             return Optional.empty();
         }
-        return Optional.ofNullable(entries.remove(primaryKey));
+
+        Map<K2, K1> next = new HashMap<>(secondaryToPrimary);
+        next.remove(secondaryKey);
+        publishSecondary(next);
+        return super.remove(primaryKey);
     }
 
     /**
@@ -148,16 +162,39 @@ public class PairedKeyRegistry<K1, K2, V> extends AbstractRegistry<K1, V> {
      * @return A set of all secondary keys
      */
     public Set<K2> secondaryKeys() {
-        return Collections.unmodifiableSet(secondaryToPrimary.keySet());
+        return secondaryToPrimary.keySet(); // Already unmodifiable
+    }
+
+    /**
+     * Replaces every primary entry at once, dropping secondary keys whose primary key is gone.
+     *
+     * @param entries The primary entries that make up the registry from now on
+     */
+    @Override
+    public synchronized void swap(Map<K1, V> entries) {
+        Map<K2, K1> next = new HashMap<>(secondaryToPrimary);
+        next.values().removeIf(primaryKey -> !entries.containsKey(primaryKey));
+        publishSecondary(next);
+        super.swap(entries);
     }
 
     /**
      * Clear all entries from both primary and secondary key mappings.
      */
     @Override
-    public void clear() {
+    public synchronized void clear() {
+        this.secondaryToPrimary = Map.of();
         super.clear();
-        secondaryToPrimary.clear();
+    }
+
+    /**
+     * Publishes a new secondary key mapping. Callers must hold the registry lock.
+     *
+     * @param mappings The secondary to primary key mappings from now on
+     */
+    private void publishSecondary(Map<K2, K1> mappings) {
+        this.secondaryToPrimary = Map.copyOf(mappings);
+        invalidateIndexes();
     }
 
     /**
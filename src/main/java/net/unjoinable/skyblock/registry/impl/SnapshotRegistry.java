@@ -0,0 +1,132 @@
+package net.unjoinable.skyblock.registry.impl;
+
+import net.unjoinable.skyblock.registry.AbstractRegistry;
+import net.unjoinable.skyblock.registry.Registry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A copy-on-write registry that can be read from any thread without locking.
+ * <p>
+ * The entries are held in an immutable snapshot published through a volatile
+ * reference. Reads always see one complete snapshot, while writes copy the current
+ * snapshot, apply the change and publish the result. Writes are serialized with each
+ * other but never block readers, which makes this registry suited for data that is read
+ * constantly and changed rarely, for example reloaded live with {@link #swap(Map)}.
+ * <p>
+ * The class index is tied to the snapshot it was built from, so class lookups never
+ * return values from an older snapshot.
+ * <p>
+ * The map handed to {@link AbstractRegistry} is an empty immutable placeholder. Every
+ * method that reads or writes {@link #entries} directly is overridden to use the
+ * snapshot instead, and subclasses must do the same; an accidental write to the
+ * placeholder fails fast with an {@link UnsupportedOperationException}.
+ *
+ * @param <K> The type of keys used in this registry
+ * @param <V> The type of values stored in this registry
+ */
+public class SnapshotRegistry<K, V> extends AbstractRegistry<K, V> {
+
+    private volatile Snapshot<K, V> snapshot;
+
+    /**
+     * Constructs a new, empty SnapshotRegistry.
+     */
+    public SnapshotRegistry() {
+        this(Map.of());
+    }
+
+    /**
+     * Constructs a new SnapshotRegistry populated with the provided entries.
+     *
+     * @param entries The entries to populate the registry with
+     */
+    public SnapshotRegistry(Map<K, V> entries) {
+        super(Map.of()); // Placeholder, see the class documentation
+        this.snapshot = Snapshot.of(entries);
+    }
+
+    @Override
+    protected Map<K, V> entries() {
+        return snapshot.entries();
+    }
+
+    @Override
+    public synchronized Registry<K, V> register(K key, V value) {
+        Map<K, V> next = new HashMap<>(snapshot.entries());
+        next.put(key, value);
+        publish(next);
+        return this;
+    }
+
+    @Override
+    public synchronized Registry<K, V> registerAll(Map<K, V> entries) {
+        Map<K, V> next = new HashMap<>(snapshot.entries());
+        next.putAll(entries);
+        publish(next);
+        return this;
+    }
+
+    @Override
+    public synchronized Optional<V> remove(K key) {
+        Map<K, V> current = snapshot.entries();
+        if (!current.containsKey(key)) {
+            return Optional.empty();
+        }
+
+        Map<K, V> next = new HashMap<>(current);
+        V removed = next.remove(key);
+        publish(next);
+        return Optional.of(removed);
+    }
+
+    /**
+     * Replaces every entry of the registry at once.
+     * <p>
+     * Readers see either the old or the new entries, never a mix of both.
+     *
+     * @param entries The entries that make up the registry from now on
+     */
+    public synchronized void swap(Map<K, V> entries) {
+        publish(entries);
+    }
+
+    @Override
+    public Set<K> keys() {
+        return snapshot.entries().keySet(); // Already unmodifiable
+    }
+
+    @Override
+    public Set<V> values() {
+        return snapshot.values(); // Computed once per snapshot
+    }
+
+    @Override
+    public synchronized void clear() {
+        publish(Map.of());
+    }
+
+    /**
+     * Publishes a new snapshot of the given entries. Callers must hold the registry lock.
+     *
+     * @param entries The entries of the new snapshot
+     */
+    private void publish(Map<K, V> entries) {
+        this.snapshot = Snapshot.of(entries);
+        invalidateIndexes();
+    }
+
+    /**
+     * An immutable view of the registry with its values precomputed.
+     */
+    private record Snapshot<K, V>(Map<K, V> entries, Set<V> values) {
+
+        static <K, V> Snapshot<K, V> of(Map<K, V> entries) {
+            Map<K, V> copy = Map.copyOf(entries);
+            return new Snapshot<>(copy, Set.copyOf(copy.values()));
+        }
+    }
+}
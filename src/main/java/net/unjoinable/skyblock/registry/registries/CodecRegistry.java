@@ -23,7 +23,9 @@ import java.util.Optional;
  * </ul></p>
  *
  * <p>This allows for efficient lookup operations for codecs by either their
- * associated attribute class types or their namespace identifiers.</p>
+ * associated attribute class types or their namespace identifiers. Lookups are
+ * lock-free, so attributes can be decoded on several threads while codecs are
+ * still being registered.</p>
  */
 public class CodecRegistry extends PairedKeyRegistry<Class<? extends ItemAttribute>, Key, Codec<? extends ItemAttribute>> {
 
@@ -38,13 +40,13 @@ public class CodecRegistry extends PairedKeyRegistry<Class<? extends ItemAttribu
     }
 
     /**
-     * Constructs a new CodecRegistry with custom map implementations.
+     * Constructs a new CodecRegistry populated with the given mappings.
      *
-     * <p>This constructor allows for custom backing map implementations
-     * to be used for the primary and secondary key storage.</p>
+     * <p>The maps are copied into the registry's snapshots, so later changes
+     * to them are not reflected.</p>
      *
-     * @param primaryMap   the map to use for class-to-codec storage
-     * @param secondaryMap the map to use for namespace-to-class mapping
+     * @param primaryMap   the initial class-to-codec entries
+     * @param secondaryMap the initial namespace-to-class mappings
      */
     public CodecRegistry(Map<Class<? extends ItemAttribute>, Codec<? extends ItemAttribute>> primaryMap,
                          Map<Key, Class<? extends ItemAttribute>> secondaryMap) {
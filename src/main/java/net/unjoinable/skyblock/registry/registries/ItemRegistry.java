@@ -49,8 +49,8 @@ public class ItemRegistry extends ImmutableRegistry<Key, SkyblockItem> {
      * process. It uses an {@link ItemLoader} to discover and load all
      * available items from the configured data sources.</p>
      *
-     * <p>Items are loaded on a background thread, but this method will
-     * block until loading is complete.</p>
+     * <p>Items are loaded on the calling thread, so this method should be
+     * run from a bootstrap stage rather than the main thread.</p>
      *
      * @return a new {@link ItemRegistry} containing all loaded items
      *
@@ -3,6 +3,7 @@ package net.unjoinable.skyblock.utils;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -61,4 +62,19 @@ public class FileUtils {
             }
         }
     }
+
+    /**
+     * Opens a streaming JSON reader over a classpath resource.
+     * <p>
+     * The caller owns the returned reader and must close it.
+     *
+     * @param resourcePath The relative path to the resource file (e.g., "config/file.json")
+     * @return JsonReader positioned at the start of the document
+     * @throws IllegalArgumentException if resourcePath is empty
+     * @throws IOException if the resource file cannot be found
+     */
+    public static JsonReader openJsonReader(String resourcePath) throws IOException {
+        InputStream inputStream = loadResourceAsStream(resourcePath);
+        return new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
 }
\ No newline at end of file
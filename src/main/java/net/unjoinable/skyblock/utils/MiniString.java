@@ -1,15 +1,21 @@
 package net.unjoinable.skyblock.utils;
 
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
 import net.minestom.server.codec.Codec;
+import net.unjoinable.skyblock.utils.cache.BoundedCache;
+import net.unjoinable.skyblock.utils.cache.CacheStats;
+import net.unjoinable.skyblock.utils.codec.MiniStringCodec;
 
 import java.util.ArrayList;
 import java.util.List;
-
-import static net.minestom.server.codec.Codec.STRING;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Utility class for handling MiniMessage text formatting with custom statistic tags.
@@ -17,11 +23,21 @@ import static net.minestom.server.codec.Codec.STRING;
  * This class provides a centralized way to convert strings to Adventure Components
  * using MiniMessage formatting, with built-in support for statistic symbols and
  * automatic italic disabling.
+ * <p>
+ * Parsed components are immutable and cached in a bounded parse cache, so repeated
+ * strings (item descriptions, messages) are only tokenized once. Strings with varying
+ * parts should use a {@link Template} instead of concatenating before parsing.
  */
 public final class MiniString {
     private static final TagResolver RESOLVER = createResolver();
     private static final MiniMessage MINI_MESSAGE = createMiniMessage();
-    public static final Codec<Component> CODEC = STRING.transform(MINI_MESSAGE::deserialize, MINI_MESSAGE::serialize);
+    private static final BoundedCache<String, Component> PARSE_CACHE =
+            BoundedCache.ofSize(Integer.getInteger("skyblock.miniStringCacheSize", 4096));
+    public static final Codec<Component> CODEC = new MiniStringCodec();
+
+    // Placeholders are swapped for private use characters, which MiniMessage leaves alone
+    private static final Pattern TEMPLATE_ARGUMENT = Pattern.compile("\\{(\\d+)}");
+    private static final Pattern SENTINEL = Pattern.compile("\uE000(\\d+)\uE001");
 
     private MiniString() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
@@ -62,7 +78,70 @@ public final class MiniString {
      * @throws IllegalArgumentException if the string is null
      */
     public static Component asComponent(String str) {
-        return MINI_MESSAGE.deserialize(str);
+        return PARSE_CACHE.get(str, MINI_MESSAGE::deserialize);
+    }
+
+    /**
+     * Parses a MiniMessage string containing numbered placeholders such as {@code {0}} once,
+     * returning a template that can be filled repeatedly without re-parsing.
+     * <p>
+     * Filled-in values take the style the placeholder has in the template, e.g.
+     * {@code "<red>{0} damage"} renders its argument in red.
+     *
+     * @param str the MiniMessage formatted string with {@code {n}} placeholders
+     * @return the parsed template
+     */
+    public static Template template(String str) {
+        Matcher matcher = TEMPLATE_ARGUMENT.matcher(str);
+        Component parsed = MINI_MESSAGE.deserialize(matcher.replaceAll("\uE000$1\uE001"));
+
+        List<Object> segments = new ArrayList<>();
+        flatten(parsed, Style.empty(), segments);
+        return new Template(segments.toArray());
+    }
+
+    /**
+     * Flattens a parsed template into a sequence of fully styled constant components and
+     * placeholders, so filling it never has to walk or search the component tree.
+     *
+     * @param component the component to flatten
+     * @param inherited the style inherited from the component's parents
+     * @param segments  the list to append segments to
+     */
+    private static void flatten(Component component, Style inherited, List<Object> segments) {
+        Style style = component.style().merge(inherited, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+
+        if (component instanceof TextComponent textComponent) {
+            String content = textComponent.content();
+            Matcher matcher = SENTINEL.matcher(content);
+            int last = 0;
+
+            while (matcher.find()) {
+                if (matcher.start() > last) {
+                    segments.add(Component.text(content.substring(last, matcher.start()), style));
+                }
+                segments.add(new Placeholder(Integer.parseInt(matcher.group(1)), style));
+                last = matcher.end();
+            }
+            if (last < content.length()) {
+                segments.add(Component.text(content.substring(last), style));
+            }
+        } else {
+            segments.add(component.children(List.of()).style(style));
+        }
+
+        for (Component child : component.children()) {
+            flatten(child, style, segments);
+        }
+    }
+
+    /**
+     * Returns hit, miss and eviction counters of the parse cache.
+     *
+     * @return the parse cache statistics
+     */
+    public static CacheStats cacheStats() {
+        return PARSE_CACHE.stats();
     }
 
     /**
@@ -74,6 +153,47 @@ public final class MiniString {
         return new ListBuilder();
     }
 
+    /**
+     * A pre-parsed MiniMessage string with numbered placeholders.
+     *
+     * @see #template(String)
+     */
+    public static final class Template {
+        private final Object[] segments; // Constant components and placeholders, in order
+
+        private Template(Object[] segments) {
+            this.segments = segments;
+        }
+
+        /**
+         * Fills the placeholders with the given arguments.
+         * <p>
+         * {@link ComponentLike} arguments are inserted with the placeholder's style as fallback,
+         * anything else is inserted as text using {@link String#valueOf(Object)}. Placeholders
+         * without an argument are left empty.
+         *
+         * @param args the values for {@code {0}}, {@code {1}}, ...
+         * @return the filled component
+         */
+        public Component fill(Object... args) {
+            Component[] children = new Component[segments.length];
+
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i] instanceof Placeholder(int index, Style style)) {
+                    Object arg = index < args.length ? args[index] : "";
+                    children[i] = arg instanceof ComponentLike component
+                            ? component.asComponent().applyFallbackStyle(style)
+                            : Component.text(String.valueOf(arg), style);
+                } else {
+                    children[i] = (Component) segments[i];
+                }
+            }
+            return Component.textOfChildren(children);
+        }
+    }
+
+    private record Placeholder(int index, Style style) {}
+
     /**
      * Builder class for creating lists of Components from MiniMessage strings.
      * <p>
@@ -50,14 +50,7 @@ public class NumberUtils {
             return String.valueOf(value);
         }
 
-        int suffixIndex = 0;
-        for (int i = THRESHOLDS.length - 1; i >= 0; i--) {
-            if (value >= THRESHOLDS[i]) {
-                suffixIndex = i;
-                break;
-            }
-        }
-
+        int suffixIndex = suffixIndex(value);
         double scaledValue = value / THRESHOLDS[suffixIndex];
         return String.format("%.1f%s", scaledValue, SUFFIXES[suffixIndex]);
     }
@@ -67,13 +60,32 @@ public class NumberUtils {
      * This version will show "1k" instead of "1.0k" when the decimal is zero.
      */
     public static String formatClean(double value) {
-        String formatted = format(value);
+        if (value < 0) {
+            return "-" + formatClean(-value);
+        }
 
-        // Remove .0 from the end if present
-        if (formatted.matches(".*\\.0[a-zA-Z]*$")) {
-            formatted = formatted.replaceFirst("\\.0([a-zA-Z]*)$", "$1");
+        if (value < 1000) {
+            return format(value);
         }
 
-        return formatted;
+        // Decide on the rounded tenths directly instead of post-processing the formatted string
+        int suffixIndex = suffixIndex(value);
+        long tenths = Math.round(value / THRESHOLDS[suffixIndex] * 10);
+        if (tenths % 10 == 0) {
+            return (tenths / 10) + SUFFIXES[suffixIndex];
+        }
+        return format(value);
+    }
+
+    /**
+     * Finds the index of the largest threshold not greater than the value.
+     */
+    private static int suffixIndex(double value) {
+        for (int i = THRESHOLDS.length - 1; i >= 0; i--) {
+            if (value >= THRESHOLDS[i]) {
+                return i;
+            }
+        }
+        return 0;
     }
 }
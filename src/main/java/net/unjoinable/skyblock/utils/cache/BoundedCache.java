@@ -0,0 +1,190 @@
+package net.unjoinable.skyblock.utils.cache;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A thread-safe, weight-bounded cache with lock-free reads.
+ * <p>
+ * Every entry is assigned a weight when it is inserted. Once the total weight exceeds
+ * the configured maximum, entries are evicted using the CLOCK approximation of LRU:
+ * a hit only sets the entry's reference bit, and the eviction hand gives referenced
+ * entries a second chance before removing them. Lookups therefore never take a lock
+ * or reorder anything, only insertions past the budget serialize on eviction.
+ * Lookups, misses and evictions are counted and exposed through {@link #stats()}.
+ *
+ * @param <K> the key type; keys must have stable {@code equals}/{@code hashCode}
+ * @param <V> the value type
+ */
+public final class BoundedCache<K, V> {
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<K> clock = new ConcurrentLinkedQueue<>();
+    private final Object evictionLock = new Object();
+    private final ToIntFunction<? super V> weigher;
+    private final long maxWeight;
+
+    private final AtomicLong weight = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache bounded by total entry weight.
+     *
+     * @param maxWeight the maximum total weight of cached entries
+     * @param weigher   computes the weight of a value; must return a positive number
+     * @throws IllegalArgumentException if maxWeight is not positive
+     */
+    public BoundedCache(long maxWeight, ToIntFunction<? super V> weigher) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Max weight must be positive: " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = Objects.requireNonNull(weigher, "Weigher cannot be null");
+    }
+
+    /**
+     * Creates a cache bounded by entry count, every entry weighing one.
+     *
+     * @param maxSize the maximum number of cached entries
+     * @param <K>     the key type
+     * @param <V>     the value type
+     * @return a new cache
+     */
+    public static <K, V> BoundedCache<K, V> ofSize(int maxSize) {
+        return new BoundedCache<>(maxSize, _ -> 1);
+    }
+
+    /**
+     * Returns the cached value for the key, computing and caching it if absent.
+     * <p>
+     * The value is computed without holding any lock, so concurrent misses on the same
+     * key may compute it more than once; the last computed value wins. Values heavier
+     * than the whole budget are returned but not cached.
+     *
+     * @param key    the key to look up
+     * @param loader computes the value on a miss
+     * @return the cached or freshly computed value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            entry.referenced = true;
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Caches the value for the key, replacing any previous mapping.
+     *
+     * @param key   the key
+     * @param value the value to cache
+     */
+    public void put(K key, V value) {
+        int entryWeight = weigher.applyAsInt(value);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+
+        Entry<V> previous = entries.put(key, new Entry<>(value, entryWeight));
+        if (previous != null) {
+            weight.addAndGet(entryWeight - previous.weight);
+        } else {
+            weight.addAndGet(entryWeight);
+            clock.offer(key);
+        }
+
+        if (weight.get() > maxWeight) {
+            evictOverflow();
+        }
+    }
+
+    /**
+     * Removes every cached entry. Counters are kept.
+     */
+    public void clear() {
+        synchronized (evictionLock) {
+            for (K key : entries.keySet()) {
+                Entry<V> removed = entries.remove(key);
+                if (removed != null) {
+                    weight.addAndGet(-removed.weight);
+                }
+            }
+            // Keep the keys of entries inserted concurrently, they must stay reachable by the clock
+            clock.removeIf(key -> !entries.containsKey(key));
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return the current statistics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), weight.get());
+    }
+
+    /**
+     * Advances the clock hand until the cache fits its budget again, clearing the
+     * reference bit of recently used entries and evicting the first unreferenced ones.
+     * <p>
+     * A key whose entry was replaced while the hand was on it goes back into the clock,
+     * so the replacement stays evictable. Should the clock still run dry while the cache
+     * is over budget, it is refilled from the current keys once per call.
+     */
+    private void evictOverflow() {
+        synchronized (evictionLock) {
+            boolean refilled = false;
+
+            while (weight.get() > maxWeight) {
+                K candidate = clock.poll();
+                if (candidate == null) {
+                    if (refilled) {
+                        return;
+                    }
+                    clock.addAll(entries.keySet());
+                    refilled = true;
+                    continue;
+                }
+
+                Entry<V> entry = entries.get(candidate);
+                if (entry == null) {
+                    continue; // Already removed by clear()
+                }
+
+                if (entry.referenced) {
+                    entry.referenced = false;
+                    clock.offer(candidate);
+                } else if (entries.remove(candidate, entry)) {
+                    weight.addAndGet(-entry.weight);
+                    evictions.increment();
+                } else if (entries.containsKey(candidate)) {
+                    clock.offer(candidate); // Replaced concurrently, the new entry needs the key
+                }
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final int weight;
+        private volatile boolean referenced;
+
+        private Entry(V value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
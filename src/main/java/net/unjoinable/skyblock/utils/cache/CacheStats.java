@@ -0,0 +1,23 @@
+package net.unjoinable.skyblock.utils.cache;
+
+/**
+ * A point-in-time view of a cache's counters.
+ *
+ * @param hits      number of lookups served from the cache
+ * @param misses    number of lookups that had to compute a value
+ * @param evictions number of entries removed to stay within the weight budget
+ * @param size      number of entries currently cached
+ * @param weight    total weight of the entries currently cached
+ */
+public record CacheStats(long hits, long misses, long evictions, int size, long weight) {
+
+    /**
+     * Returns the fraction of lookups that were served from the cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 if there were no lookups
+     */
+    public double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0D : (double) hits / total;
+    }
+}
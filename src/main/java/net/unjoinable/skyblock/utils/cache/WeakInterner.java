@@ -0,0 +1,106 @@
+package net.unjoinable.skyblock.utils.cache;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonicalizes equal immutable values to a single shared instance.
+ * <p>
+ * Canonical instances are only weakly held, so an interned value is released as soon
+ * as nothing else references it. Values must be deeply immutable and implement
+ * structural {@code equals}/{@code hashCode}, since one instance ends up shared by
+ * every caller that interned an equal value.
+ * <p>
+ * The canonical set is a {@link ConcurrentHashMap} of weak references, so concurrent
+ * decoders intern without contending on a shared lock. Cleared references are purged
+ * from a reference queue on every call.
+ *
+ * @param <T> the value type
+ */
+public final class WeakInterner<T> {
+    private final ConcurrentHashMap<WeakKey<T>, WeakKey<T>> canonical = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> released = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Returns the canonical instance equal to the value, registering the value
+     * itself as canonical if there is none yet.
+     *
+     * @param value the value to intern
+     * @return the shared instance equal to the value
+     */
+    public T intern(T value) {
+        purgeReleased();
+        WeakKey<T> key = new WeakKey<>(value, released);
+
+        while (true) {
+            WeakKey<T> existing = canonical.putIfAbsent(key, key);
+            if (existing == null) {
+                misses.increment();
+                return value;
+            }
+
+            T shared = existing.get();
+            if (shared != null) {
+                key.clear(); // Never registered, keep it off the queue
+                hits.increment();
+                return shared;
+            }
+
+            // The canonical instance was collected but not purged yet
+            canonical.remove(existing, existing);
+        }
+    }
+
+    /**
+     * Returns interner counters: hits are duplicates replaced by a canonical instance,
+     * misses are values that became canonical, and size is the number of live canonical values.
+     *
+     * @return the current statistics
+     */
+    public CacheStats stats() {
+        purgeReleased();
+        int size = canonical.size();
+        return new CacheStats(hits.sum(), misses.sum(), 0, size, size);
+    }
+
+    private void purgeReleased() {
+        Reference<? extends T> ref;
+        while ((ref = released.poll()) != null) {
+            canonical.remove(ref, ref);
+        }
+    }
+
+    /**
+     * A weak reference compared by the value it refers to. The hash is kept so that a
+     * cleared key can still be located and removed.
+     */
+    private static final class WeakKey<T> extends WeakReference<T> {
+        private final int hash;
+
+        WeakKey(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.hash = value.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof WeakKey<?> other) || hash != other.hash) return false;
+
+            T value = get();
+            return value != null && value.equals(other.get());
+        }
+    }
+}
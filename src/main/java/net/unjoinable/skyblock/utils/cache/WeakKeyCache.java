@@ -0,0 +1,111 @@
+package net.unjoinable.skyblock.utils.cache;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache whose keys are weakly referenced.
+ * <p>
+ * Entries disappear once their key is no longer strongly reachable, so the cache never
+ * keeps keys alive and needs no explicit bound. Values must not reference their key,
+ * otherwise the entry can never be collected.
+ * <p>
+ * Entries are spread over independently locked stripes by key hash, so threads working
+ * on different keys rarely contend.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class WeakKeyCache<K, V> {
+    private static final int STRIPES = stripeCount();
+
+    private final Stripe<K, V>[] stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates an empty cache with one stripe per few available processors.
+     */
+    @SuppressWarnings("unchecked")
+    public WeakKeyCache() {
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    private static int stripeCount() {
+        int target = Runtime.getRuntime().availableProcessors() * 2;
+        return Integer.highestOneBit(Math.max(1, target - 1)) << 1; // Next power of two
+    }
+
+    /**
+     * Returns the cached value for the key, computing and caching it if absent.
+     * <p>
+     * The value is computed outside the lock, so concurrent misses on the same key may
+     * compute it more than once.
+     *
+     * @param key    the key to look up
+     * @param loader computes the value on a miss
+     * @return the cached or freshly computed value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Stripe<K, V> stripe = stripeFor(key);
+
+        V value;
+        synchronized (stripe) {
+            value = stripe.entries.get(key);
+        }
+
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        value = loader.apply(key);
+        synchronized (stripe) {
+            stripe.entries.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes every cached entry. Counters are kept.
+     */
+    public void clear() {
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.entries.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache counters. Entries collected by the garbage
+     * collector are not counted as evictions, and every entry weighs one.
+     *
+     * @return the current statistics
+     */
+    public CacheStats stats() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), 0, size, size);
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+
+    private static final class Stripe<K, V> {
+        private final Map<K, V> entries = new WeakHashMap<>();
+    }
+}
@@ -10,11 +10,24 @@ import net.unjoinable.skyblock.registry.registries.CodecRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodes an {@link AttributeContainer} as a map from attribute key to encoded attribute.
+ * <p>
+ * Decoding walks the keys present in the input and dispatches each through a table of
+ * codecs compiled from the {@link CodecRegistry}, so its cost grows with the attributes
+ * actually stored rather than with the number of registered attribute types. The table
+ * is rebuilt whenever the registry is modified.
+ */
 public class AttributeContainerCodec implements Codec<AttributeContainer> {
     private final CodecRegistry registry;
+    private volatile DecodeTable decodeTable;
 
     public AttributeContainerCodec(CodecRegistry registry) {
         this.registry = registry;
+        this.decodeTable = compile(registry);
     }
 
     @Override
@@ -23,21 +36,43 @@ public class AttributeContainerCodec implements Codec<AttributeContainer> {
             return new Result.Error<>("Not a valid attribute container - expected map");
         }
 
+        Map<String, Codec<? extends ItemAttribute>> codecs = currentTable().codecs();
         var builder = AttributeContainer.builder();
-        for (Key key : registry.secondaryKeys()) {
-            String idStr = key.asString();
-
-            if (mapLike.hasValue(idStr) && mapLike.getValue(idStr) instanceof Result.Ok<D>(var data)) {
-                registry.getCodecByNamespace(key).ifPresent(codec -> {
-                    if (codec.decode(coder, data) instanceof Result.Ok(ItemAttribute attr)) {
-                        builder.with(attr);
-                    }
-                });
+        for (String idStr : mapLike.keys()) {
+            Codec<? extends ItemAttribute> codec = codecs.get(idStr);
+            if (codec == null) {
+                continue;
+            }
+
+            if (mapLike.getValue(idStr) instanceof Result.Ok<D>(var data)
+                    && codec.decode(coder, data) instanceof Result.Ok(ItemAttribute attr)) {
+                builder.with(attr);
             }
         }
         return new Result.Ok<>(builder.build());
     }
 
+    /**
+     * Returns the decode table, recompiling it if the registry was modified since.
+     */
+    private DecodeTable currentTable() {
+        DecodeTable table = this.decodeTable;
+        if (table.registryVersion() != registry.version()) {
+            table = compile(registry);
+            this.decodeTable = table;
+        }
+        return table;
+    }
+
+    private static DecodeTable compile(CodecRegistry registry) {
+        long version = registry.version(); // Before reading, so a concurrent write triggers another rebuild
+        Map<String, Codec<? extends ItemAttribute>> codecs = new HashMap<>();
+        for (Key key : registry.secondaryKeys()) {
+            registry.getCodecByNamespace(key).ifPresent(codec -> codecs.put(key.asString(), codec));
+        }
+        return new DecodeTable(version, Map.copyOf(codecs));
+    }
+
     @Override
     public @NotNull <D> Result<D> encode(@NotNull Transcoder<D> coder, @Nullable AttributeContainer value) {
         if (value == null) {
@@ -53,4 +88,6 @@ public class AttributeContainerCodec implements Codec<AttributeContainer> {
 
         return new Result.Ok<>(mapBuilder.build());
     }
+
+    private record DecodeTable(long registryVersion, Map<String, Codec<? extends ItemAttribute>> codecs) {}
 }
\ No newline at end of file
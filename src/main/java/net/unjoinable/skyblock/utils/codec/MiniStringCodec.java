@@ -0,0 +1,40 @@
+package net.unjoinable.skyblock.utils.codec;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.codec.Codec;
+import net.minestom.server.codec.Result;
+import net.minestom.server.codec.Transcoder;
+import net.unjoinable.skyblock.utils.MiniString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Codec for text that is authored as MiniMessage but has to survive an encode/decode round trip.
+ * <p>
+ * Strings are parsed through {@link MiniString#asComponent(String)}, which prepends the
+ * italic-disabling tag. Encoding writes the full serialized component instead of a
+ * MiniMessage string, and serialized components are decoded as is, so decoding an
+ * encoded value yields an equal component rather than one wrapped in another
+ * {@code <!i>}. Components parsed by MiniString always carry a root style, so they are
+ * never encoded as a bare string.
+ */
+public class MiniStringCodec implements Codec<Component> {
+
+    @Override
+    public @NotNull <D> Result<Component> decode(@NotNull Transcoder<D> coder, @NotNull D value) {
+        if (coder.getString(value) instanceof Result.Ok(String str)) {
+            return new Result.Ok<>(MiniString.asComponent(str));
+        }
+
+        return Codec.COMPONENT.decode(coder, value);
+    }
+
+    @Override
+    public @NotNull <D> Result<D> encode(@NotNull Transcoder<D> coder, @Nullable Component value) {
+        if (value == null) {
+            return new Result.Error<>("Can't encode null Component");
+        }
+
+        return Codec.COMPONENT.encode(coder, value);
+    }
+}